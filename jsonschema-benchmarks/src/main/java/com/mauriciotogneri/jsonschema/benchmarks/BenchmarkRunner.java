@@ -0,0 +1,52 @@
+package com.mauriciotogneri.jsonschema.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+
+public class BenchmarkRunner
+{
+    private static final String POM_PROPERTIES = "/META-INF/maven/com.mauriciotogneri/jsonschema/pom.properties";
+
+    public static void main(String[] args) throws CommandLineOptionException, RunnerException, IOException
+    {
+        CommandLineOptions options = new CommandLineOptions(args);
+        ChainedOptionsBuilder builder = new OptionsBuilder().parent(options);
+
+        if (!options.getResultFormat().hasValue())
+        {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+
+        if (!options.getResult().hasValue())
+        {
+            builder.result(String.format("jmh-jsonschema-%s.json", version()));
+        }
+
+        new Runner(builder.build()).run();
+    }
+
+    private static String version() throws IOException
+    {
+        try (InputStream input = BenchmarkRunner.class.getResourceAsStream(POM_PROPERTIES))
+        {
+            if (input == null)
+            {
+                return "snapshot";
+            }
+
+            Properties properties = new Properties();
+            properties.load(input);
+
+            return properties.getProperty("version", "snapshot");
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.mauriciotogneri.jsonschema.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import com.google.gson.JsonObject;
+import com.mauriciotogneri.jsonschema.JsonSchema;
+import com.mauriciotogneri.jsonschema.SchemaOptimizer;
+import com.mauriciotogneri.jsonschema.SchemaRegistry;
+import com.mauriciotogneri.jsonschema.SchemaValidator;
+import com.mauriciotogneri.jsonschema.benchmarks.model.Catalog;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ConstructionBenchmark
+{
+    private JsonObject schema;
+    private JsonObject runtimeSchema;
+    private JsonNode input;
+
+    @Setup
+    public void setup() throws IOException
+    {
+        schema = new JsonSchema(Catalog.class).schema();
+        runtimeSchema = SchemaOptimizer.runtime().optimize(schema);
+        input = JsonLoader.fromString(Payloads.catalog(1).toString());
+    }
+
+    @Benchmark
+    public ProcessingReport cold() throws IOException, ProcessingException
+    {
+        SchemaRegistry registry = new SchemaRegistry(JsonSchemaFactory.byDefault(), 1);
+
+        return new SchemaValidator(schema, registry).validate(input);
+    }
+
+    @Benchmark
+    public ProcessingReport coldRuntimeProfile() throws IOException, ProcessingException
+    {
+        SchemaRegistry registry = new SchemaRegistry(JsonSchemaFactory.byDefault(), 1);
+
+        return new SchemaValidator(runtimeSchema, registry).validate(input);
+    }
+
+    @Benchmark
+    public ProcessingReport coldFromClass() throws ProcessingException
+    {
+        SchemaRegistry registry = new SchemaRegistry(JsonSchemaFactory.byDefault(), 1);
+
+        return new SchemaValidator(Catalog.class, registry).validate(input);
+    }
+
+    @Benchmark
+    public ProcessingReport warm() throws IOException, ProcessingException
+    {
+        return new SchemaValidator(schema).validate(input);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @Fork(10)
+    public ProcessingReport firstUse() throws IOException, ProcessingException
+    {
+        return new SchemaValidator(new JsonSchema(Catalog.class).schema()).validate(input);
+    }
+}
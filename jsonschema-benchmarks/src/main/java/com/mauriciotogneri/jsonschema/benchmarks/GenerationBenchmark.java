@@ -0,0 +1,53 @@
+package com.mauriciotogneri.jsonschema.benchmarks;
+
+import com.google.gson.JsonObject;
+import com.mauriciotogneri.jsonschema.JsonSchema;
+import com.mauriciotogneri.jsonschema.SchemaCache;
+import com.mauriciotogneri.jsonschema.benchmarks.model.Deep;
+import com.mauriciotogneri.jsonschema.benchmarks.model.Node;
+import com.mauriciotogneri.jsonschema.benchmarks.model.Wide;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class GenerationBenchmark
+{
+    @Benchmark
+    public JsonObject deep()
+    {
+        return new JsonSchema(Deep.class).schema();
+    }
+
+    @Benchmark
+    public JsonObject wide()
+    {
+        return new JsonSchema(Wide.class).schema();
+    }
+
+    @Benchmark
+    public JsonObject cyclic()
+    {
+        return new JsonSchema(Node.class).schema();
+    }
+
+    @Benchmark
+    public JsonObject cached()
+    {
+        return SchemaCache.schema(Wide.class);
+    }
+}
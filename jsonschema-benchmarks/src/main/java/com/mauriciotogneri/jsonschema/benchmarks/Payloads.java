@@ -0,0 +1,47 @@
+package com.mauriciotogneri.jsonschema.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+final class Payloads
+{
+    private static final String[] STATUSES = {"AVAILABLE", "RESERVED", "SOLD"};
+
+    private Payloads()
+    {
+    }
+
+    static JsonObject catalog(int items)
+    {
+        JsonArray array = new JsonArray();
+
+        for (int i = 0; i < items; i++)
+        {
+            array.add(item(i));
+        }
+
+        JsonObject catalog = new JsonObject();
+        catalog.addProperty("name", "catalog-" + items);
+        catalog.add("items", array);
+
+        return catalog;
+    }
+
+    private static JsonObject item(int index)
+    {
+        JsonArray tags = new JsonArray();
+        tags.add("tag-" + (index % 7));
+        tags.add("tag-" + (index % 11 + 7));
+
+        JsonObject item = new JsonObject();
+        item.addProperty("sku", String.format("ABC-%06d", index));
+        item.addProperty("title", "Item number " + index);
+        item.addProperty("price", (index % 1000) / 10.0);
+        item.addProperty("quantity", index % 50);
+        item.add("tags", tags);
+        item.addProperty("contact", "seller" + (index % 100) + "@example.com");
+        item.addProperty("status", STATUSES[index % STATUSES.length]);
+
+        return item;
+    }
+}
@@ -0,0 +1,74 @@
+package com.mauriciotogneri.jsonschema.benchmarks;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.google.gson.JsonObject;
+import com.mauriciotogneri.jsonschema.JsonSchema;
+import com.mauriciotogneri.jsonschema.SchemaValidator;
+import com.mauriciotogneri.jsonschema.benchmarks.model.Catalog;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ValidationBenchmark
+{
+    @Param({"1", "100", "10000"})
+    public int items;
+
+    private SchemaValidator validator;
+    private String string;
+    private JsonObject jsonObject;
+    private JsonNode jsonNode;
+
+    @Setup
+    public void setup() throws IOException, ProcessingException
+    {
+        validator = new SchemaValidator(new JsonSchema(Catalog.class).schema());
+        jsonObject = Payloads.catalog(items);
+        string = jsonObject.toString();
+        jsonNode = JsonLoader.fromString(string);
+
+        if (!validator.validate(jsonNode).isSuccess())
+        {
+            throw new IllegalStateException("Benchmark payload does not match its schema");
+        }
+    }
+
+    @Benchmark
+    public ProcessingReport string() throws IOException, ProcessingException
+    {
+        return validator.validate(string);
+    }
+
+    @Benchmark
+    public ProcessingReport jsonObject() throws IOException, ProcessingException
+    {
+        return validator.validate(jsonObject);
+    }
+
+    @Benchmark
+    public ProcessingReport jsonNode() throws ProcessingException
+    {
+        return validator.validate(jsonNode);
+    }
+}
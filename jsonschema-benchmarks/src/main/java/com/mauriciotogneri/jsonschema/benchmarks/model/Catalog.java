@@ -0,0 +1,11 @@
+package com.mauriciotogneri.jsonschema.benchmarks.model;
+
+import com.mauriciotogneri.jsonschema.annotations.MinLength;
+
+public class Catalog
+{
+    @MinLength(1)
+    public String name;
+
+    public Item[] items;
+}
@@ -0,0 +1,199 @@
+package com.mauriciotogneri.jsonschema.benchmarks.model;
+
+import com.mauriciotogneri.jsonschema.annotations.MinLength;
+import com.mauriciotogneri.jsonschema.annotations.Minimum;
+import com.mauriciotogneri.jsonschema.annotations.Optional;
+
+public class Deep
+{
+    public Level01 root;
+
+    public static class Level01
+    {
+        @MinLength(1)
+        public String id;
+
+        @Minimum(0)
+        public int depth;
+
+        @Optional
+        public Level02 next;
+    }
+
+    public static class Level02
+    {
+        @MinLength(1)
+        public String id;
+
+        @Minimum(0)
+        public int depth;
+
+        @Optional
+        public Level03 next;
+    }
+
+    public static class Level03
+    {
+        @MinLength(1)
+        public String id;
+
+        @Minimum(0)
+        public int depth;
+
+        @Optional
+        public Level04 next;
+    }
+
+    public static class Level04
+    {
+        @MinLength(1)
+        public String id;
+
+        @Minimum(0)
+        public int depth;
+
+        @Optional
+        public Level05 next;
+    }
+
+    public static class Level05
+    {
+        @MinLength(1)
+        public String id;
+
+        @Minimum(0)
+        public int depth;
+
+        @Optional
+        public Level06 next;
+    }
+
+    public static class Level06
+    {
+        @MinLength(1)
+        public String id;
+
+        @Minimum(0)
+        public int depth;
+
+        @Optional
+        public Level07 next;
+    }
+
+    public static class Level07
+    {
+        @MinLength(1)
+        public String id;
+
+        @Minimum(0)
+        public int depth;
+
+        @Optional
+        public Level08 next;
+    }
+
+    public static class Level08
+    {
+        @MinLength(1)
+        public String id;
+
+        @Minimum(0)
+        public int depth;
+
+        @Optional
+        public Level09 next;
+    }
+
+    public static class Level09
+    {
+        @MinLength(1)
+        public String id;
+
+        @Minimum(0)
+        public int depth;
+
+        @Optional
+        public Level10 next;
+    }
+
+    public static class Level10
+    {
+        @MinLength(1)
+        public String id;
+
+        @Minimum(0)
+        public int depth;
+
+        @Optional
+        public Level11 next;
+    }
+
+    public static class Level11
+    {
+        @MinLength(1)
+        public String id;
+
+        @Minimum(0)
+        public int depth;
+
+        @Optional
+        public Level12 next;
+    }
+
+    public static class Level12
+    {
+        @MinLength(1)
+        public String id;
+
+        @Minimum(0)
+        public int depth;
+
+        @Optional
+        public Level13 next;
+    }
+
+    public static class Level13
+    {
+        @MinLength(1)
+        public String id;
+
+        @Minimum(0)
+        public int depth;
+
+        @Optional
+        public Level14 next;
+    }
+
+    public static class Level14
+    {
+        @MinLength(1)
+        public String id;
+
+        @Minimum(0)
+        public int depth;
+
+        @Optional
+        public Level15 next;
+    }
+
+    public static class Level15
+    {
+        @MinLength(1)
+        public String id;
+
+        @Minimum(0)
+        public int depth;
+
+        @Optional
+        public Level16 next;
+    }
+
+    public static class Level16
+    {
+        @MinLength(1)
+        public String id;
+
+        @Minimum(0)
+        public int depth;
+    }
+}
@@ -0,0 +1,41 @@
+package com.mauriciotogneri.jsonschema.benchmarks.model;
+
+import com.mauriciotogneri.jsonschema.annotations.Format;
+import com.mauriciotogneri.jsonschema.annotations.MaxItems;
+import com.mauriciotogneri.jsonschema.annotations.MaxLength;
+import com.mauriciotogneri.jsonschema.annotations.Minimum;
+import com.mauriciotogneri.jsonschema.annotations.Optional;
+import com.mauriciotogneri.jsonschema.annotations.Pattern;
+import com.mauriciotogneri.jsonschema.annotations.UniqueItems;
+
+public class Item
+{
+    @Pattern("^[A-Z]{3}-[0-9]{6}$")
+    public String sku;
+
+    @MaxLength(128)
+    public String title;
+
+    @Minimum(0)
+    public double price;
+
+    @Minimum(0)
+    public int quantity;
+
+    @UniqueItems(true)
+    @MaxItems(16)
+    public String[] tags;
+
+    @Optional
+    @Format("email")
+    public String contact;
+
+    public Status status;
+
+    public enum Status
+    {
+        AVAILABLE,
+        RESERVED,
+        SOLD
+    }
+}
@@ -0,0 +1,29 @@
+package com.mauriciotogneri.jsonschema.benchmarks.model;
+
+import com.mauriciotogneri.jsonschema.annotations.MinLength;
+import com.mauriciotogneri.jsonschema.annotations.Optional;
+
+import java.util.List;
+
+public class Node
+{
+    @MinLength(1)
+    public String id;
+
+    @Optional
+    public Node parent;
+
+    public List<Node> children;
+
+    public Edge[] edges;
+
+    public static class Edge
+    {
+        public Node from;
+
+        public Node to;
+
+        @Optional
+        public Edge reverse;
+    }
+}
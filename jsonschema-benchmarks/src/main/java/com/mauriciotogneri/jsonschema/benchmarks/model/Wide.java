@@ -0,0 +1,193 @@
+package com.mauriciotogneri.jsonschema.benchmarks.model;
+
+import com.mauriciotogneri.jsonschema.annotations.MaxItems;
+import com.mauriciotogneri.jsonschema.annotations.MaxLength;
+import com.mauriciotogneri.jsonschema.annotations.Maximum;
+import com.mauriciotogneri.jsonschema.annotations.Minimum;
+import com.mauriciotogneri.jsonschema.annotations.Optional;
+
+public class Wide
+{
+    @MaxLength(64)
+    public String field00;
+
+    @Minimum(0)
+    public int field01;
+
+    @Maximum(1000)
+    public double field02;
+
+    public boolean field03;
+
+    @Minimum(0)
+    public long field04;
+
+    @MaxItems(8)
+    public String[] field05;
+
+    public Color field06;
+
+    @Optional
+    public Integer field07;
+
+    @MaxLength(64)
+    public String field08;
+
+    @Minimum(0)
+    public int field09;
+
+    @Maximum(1000)
+    public double field10;
+
+    public boolean field11;
+
+    @Minimum(0)
+    public long field12;
+
+    @MaxItems(8)
+    public String[] field13;
+
+    public Color field14;
+
+    @Optional
+    public Integer field15;
+
+    @MaxLength(64)
+    public String field16;
+
+    @Minimum(0)
+    public int field17;
+
+    @Maximum(1000)
+    public double field18;
+
+    public boolean field19;
+
+    @Minimum(0)
+    public long field20;
+
+    @MaxItems(8)
+    public String[] field21;
+
+    public Color field22;
+
+    @Optional
+    public Integer field23;
+
+    @MaxLength(64)
+    public String field24;
+
+    @Minimum(0)
+    public int field25;
+
+    @Maximum(1000)
+    public double field26;
+
+    public boolean field27;
+
+    @Minimum(0)
+    public long field28;
+
+    @MaxItems(8)
+    public String[] field29;
+
+    public Color field30;
+
+    @Optional
+    public Integer field31;
+
+    @MaxLength(64)
+    public String field32;
+
+    @Minimum(0)
+    public int field33;
+
+    @Maximum(1000)
+    public double field34;
+
+    public boolean field35;
+
+    @Minimum(0)
+    public long field36;
+
+    @MaxItems(8)
+    public String[] field37;
+
+    public Color field38;
+
+    @Optional
+    public Integer field39;
+
+    @MaxLength(64)
+    public String field40;
+
+    @Minimum(0)
+    public int field41;
+
+    @Maximum(1000)
+    public double field42;
+
+    public boolean field43;
+
+    @Minimum(0)
+    public long field44;
+
+    @MaxItems(8)
+    public String[] field45;
+
+    public Color field46;
+
+    @Optional
+    public Integer field47;
+
+    @MaxLength(64)
+    public String field48;
+
+    @Minimum(0)
+    public int field49;
+
+    @Maximum(1000)
+    public double field50;
+
+    public boolean field51;
+
+    @Minimum(0)
+    public long field52;
+
+    @MaxItems(8)
+    public String[] field53;
+
+    public Color field54;
+
+    @Optional
+    public Integer field55;
+
+    @MaxLength(64)
+    public String field56;
+
+    @Minimum(0)
+    public int field57;
+
+    @Maximum(1000)
+    public double field58;
+
+    public boolean field59;
+
+    @Minimum(0)
+    public long field60;
+
+    @MaxItems(8)
+    public String[] field61;
+
+    public Color field62;
+
+    @Optional
+    public Integer field63;
+
+    public enum Color
+    {
+        RED,
+        GREEN,
+        BLUE
+    }
+}
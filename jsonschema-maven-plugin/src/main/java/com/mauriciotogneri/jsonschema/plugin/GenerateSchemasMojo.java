@@ -0,0 +1,107 @@
+package com.mauriciotogneri.jsonschema.plugin;
+
+import com.mauriciotogneri.jsonschema.ExportReport;
+import com.mauriciotogneri.jsonschema.PrecompiledSchemas;
+import com.mauriciotogneri.jsonschema.SchemaExporter;
+
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+@Mojo(name = "generate", defaultPhase = LifecyclePhase.PROCESS_CLASSES, requiresDependencyResolution = ResolutionScope.COMPILE, threadSafe = true)
+public class GenerateSchemasMojo extends AbstractMojo
+{
+    @Parameter(defaultValue = "${project}", readonly = true, required = true)
+    private MavenProject project;
+
+    @Parameter(required = true)
+    private List<String> packages;
+
+    @Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+    private File outputDirectory;
+
+    @Parameter(defaultValue = "${project.build.directory}/jsonschema/manifest", required = true)
+    private File manifest;
+
+    @Parameter(property = "jsonschema.threads", defaultValue = "0")
+    private int threads;
+
+    @Parameter(property = "jsonschema.skip", defaultValue = "false")
+    private boolean skip;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException
+    {
+        if (skip)
+        {
+            getLog().info("Skipping schema generation");
+
+            return;
+        }
+
+        Path schemas = outputDirectory.toPath().resolve(PrecompiledSchemas.DIRECTORY);
+        ForkJoinPool pool = (threads > 0) ? new ForkJoinPool(threads) : new ForkJoinPool();
+
+        try (URLClassLoader classLoader = new URLClassLoader(classpath(), getClass().getClassLoader()))
+        {
+            SchemaExporter exporter = new SchemaExporter(schemas, manifest.toPath(), classLoader);
+            ExportReport report = exporter.export(exporter.scan(pool, packages.toArray(new String[packages.size()])), pool);
+
+            for (Map.Entry<String, Throwable> failure : report.failures().entrySet())
+            {
+                getLog().error(String.format("Cannot generate schema for %s", failure.getKey()), failure.getValue());
+            }
+
+            if (!report.isSuccess())
+            {
+                throw new MojoFailureException(String.format("Schema generation failed for %d classes", report.failures().size()));
+            }
+
+            getLog().info(report.toString());
+        }
+        catch (IOException e)
+        {
+            throw new MojoExecutionException("Cannot generate schemas", e);
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    private URL[] classpath() throws MojoExecutionException
+    {
+        try
+        {
+            List<String> elements = project.getCompileClasspathElements();
+            URL[] urls = new URL[elements.size()];
+
+            for (int i = 0; i < urls.length; i++)
+            {
+                urls[i] = new File(elements.get(i)).toURI().toURL();
+            }
+
+            return urls;
+        }
+        catch (DependencyResolutionRequiredException | MalformedURLException e)
+        {
+            throw new MojoExecutionException("Cannot resolve the compile classpath", e);
+        }
+    }
+}
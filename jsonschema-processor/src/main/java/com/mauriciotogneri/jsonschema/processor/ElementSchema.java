@@ -0,0 +1,564 @@
+package com.mauriciotogneri.jsonschema.processor;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+public class ElementSchema
+{
+    private final Elements elements;
+    private final Types types;
+
+    private static final String ANNOTATIONS_PACKAGE = "com.mauriciotogneri.jsonschema.annotations.";
+
+    private static final String TYPE_STRING = "string";
+    private static final String TYPE_BOOLEAN = "boolean";
+    private static final String TYPE_INTEGER = "integer";
+    private static final String TYPE_NUMBER = "number";
+    private static final String TYPE_OBJECT = "object";
+    private static final String TYPE_NULL = "null";
+    private static final String TYPE_ARRAY = "array";
+    private static final String TYPE_FILE = "file";
+
+    private static final String[] KEYWORDS = {
+            "description",
+            "title",
+            "default",
+            "format",
+            "pattern",
+            "minimum",
+            "maximum",
+            "multipleOf",
+            "exclusiveMinimum",
+            "exclusiveMaximum",
+            "uniqueItems",
+            "additionalItems",
+            "additionalProperties",
+            "minProperties",
+            "maxProperties",
+            "minLength",
+            "maxLength",
+            "minItems",
+            "maxItems"
+    };
+
+    private enum Kind
+    {
+        STRING,
+        BOOLEAN,
+        INTEGER,
+        NUMBER,
+        DATE,
+        URI,
+        FILE,
+        NULL,
+        ENUM,
+        ARRAY,
+        ROOT_OBJECT,
+        OBJECT
+    }
+
+    public ElementSchema(Elements elements, Types types)
+    {
+        this.elements = elements;
+        this.types = types;
+    }
+
+    public JsonObject schema(TypeElement typeElement)
+    {
+        TypeMirror type = types.erasure(typeElement.asType());
+
+        Map<String, TypeMirror> definitions = new LinkedHashMap<>();
+        addType(type, definitions);
+
+        JsonObject root = schema(type, true);
+        root.addProperty("$schema", "http://json-schema.org/schema#");
+
+        JsonObject defs = new JsonObject();
+
+        for (Map.Entry<String, TypeMirror> entry : definitions.entrySet())
+        {
+            defs.add(entry.getKey(), schema(entry.getValue(), false));
+        }
+
+        if (defs.size() > 0)
+        {
+            root.add("definitions", defs);
+        }
+
+        return root;
+    }
+
+    private void addType(TypeMirror type, Map<String, TypeMirror> definitions)
+    {
+        Deque<TypeMirror> pending = new ArrayDeque<>();
+        pending.push(type);
+
+        while (!pending.isEmpty())
+        {
+            TypeMirror current = pending.pop();
+            Kind kind = kind(current);
+
+            if (kind == Kind.ARRAY)
+            {
+                pending.push(((ArrayType) current).getComponentType());
+            }
+            else if (kind == Kind.OBJECT)
+            {
+                String name = name(current);
+
+                if (!definitions.containsKey(name))
+                {
+                    definitions.put(name, current);
+
+                    List<TypeMirror> references = references(current);
+
+                    for (int i = references.size() - 1; i >= 0; i--)
+                    {
+                        pending.push(references.get(i));
+                    }
+                }
+            }
+        }
+    }
+
+    private List<TypeMirror> references(TypeMirror type)
+    {
+        List<TypeMirror> references = new ArrayList<>();
+
+        for (VariableElement field : fields(type))
+        {
+            references.add(field.asType());
+
+            Map<String, Object> annotations = annotations(field);
+
+            for (String multiple : new String[] {"AllOf", "AnyOf", "OneOf"})
+            {
+                Object value = annotations.get(multiple);
+
+                if (value != null)
+                {
+                    for (Object item : (List<?>) value)
+                    {
+                        references.add(types.erasure((TypeMirror) ((AnnotationValue) item).getValue()));
+                    }
+                }
+            }
+
+            Object not = annotations.get("Not");
+
+            if (not != null)
+            {
+                references.add(types.erasure((TypeMirror) not));
+            }
+        }
+
+        return references;
+    }
+
+    private JsonObject schema(TypeMirror type, boolean useReferences)
+    {
+        JsonObject schema = new JsonObject();
+        Kind kind = kind(type);
+
+        if (kind == Kind.ARRAY)
+        {
+            fillArray(schema, type);
+        }
+        else if ((kind == Kind.OBJECT) || (kind == Kind.ROOT_OBJECT))
+        {
+            if (useReferences)
+            {
+                fillReference(schema, type);
+            }
+            else
+            {
+                fillObject(schema, type);
+            }
+        }
+        else
+        {
+            fillPrimitive(schema, type, kind);
+        }
+
+        return schema;
+    }
+
+    private void fillObject(JsonObject json, TypeMirror type)
+    {
+        json.addProperty("type", TYPE_OBJECT);
+
+        JsonObject properties = new JsonObject();
+        JsonArray required = new JsonArray();
+
+        for (VariableElement field : fields(type))
+        {
+            Map<String, Object> annotations = annotations(field);
+
+            String name = field.getSimpleName().toString();
+
+            if (annotations.containsKey("Name"))
+            {
+                properties.add((String) annotations.get("Name"), property(field, annotations));
+            }
+            else
+            {
+                properties.add(name, property(field, annotations));
+            }
+
+            if (!annotations.containsKey("Optional"))
+            {
+                required.add(name);
+            }
+        }
+
+        json.add("properties", properties);
+
+        if (required.size() > 0)
+        {
+            json.add("required", required);
+        }
+    }
+
+    private JsonObject property(VariableElement field, Map<String, Object> annotations)
+    {
+        JsonObject json = new JsonObject();
+
+        for (String multiple : new String[] {"allOf", "anyOf", "oneOf"})
+        {
+            Object value = annotations.get(capitalize(multiple));
+
+            if (value != null)
+            {
+                JsonArray list = new JsonArray();
+
+                for (Object item : (List<?>) value)
+                {
+                    list.add(schema(types.erasure((TypeMirror) ((AnnotationValue) item).getValue()), true));
+                }
+
+                json.add(multiple, list);
+
+                return json;
+            }
+        }
+
+        Object not = annotations.get("Not");
+
+        if (not != null)
+        {
+            json.add("not", schema(types.erasure((TypeMirror) not), true));
+
+            return json;
+        }
+
+        TypeMirror type = types.erasure(field.asType());
+        Kind kind = kind(type);
+
+        if (kind == Kind.ARRAY)
+        {
+            fillArray(json, type);
+        }
+        else if ((kind == Kind.OBJECT) || (kind == Kind.ROOT_OBJECT))
+        {
+            fillReference(json, type);
+        }
+        else
+        {
+            fillPrimitive(json, type, kind);
+        }
+
+        for (String keyword : KEYWORDS)
+        {
+            Object value = annotations.get(capitalize(keyword));
+
+            if (value instanceof String)
+            {
+                json.addProperty(keyword, (String) value);
+            }
+            else if (value instanceof Number)
+            {
+                json.addProperty(keyword, (Number) value);
+            }
+            else if (value instanceof Boolean)
+            {
+                json.addProperty(keyword, (Boolean) value);
+            }
+        }
+
+        return json;
+    }
+
+    private void fillPrimitive(JsonObject json, TypeMirror type, Kind kind)
+    {
+        switch (kind)
+        {
+            case STRING:
+                json.addProperty("type", TYPE_STRING);
+                break;
+
+            case BOOLEAN:
+                json.addProperty("type", TYPE_BOOLEAN);
+                break;
+
+            case INTEGER:
+                json.addProperty("type", TYPE_INTEGER);
+                break;
+
+            case NUMBER:
+                json.addProperty("type", TYPE_NUMBER);
+                break;
+
+            case DATE:
+                json.addProperty("type", TYPE_STRING);
+                json.addProperty("format", "date-time");
+                break;
+
+            case URI:
+                json.addProperty("type", TYPE_STRING);
+                json.addProperty("format", "uri");
+                break;
+
+            case FILE:
+                json.addProperty("type", TYPE_FILE);
+                break;
+
+            case NULL:
+                json.addProperty("type", TYPE_NULL);
+                break;
+
+            case ENUM:
+                JsonArray values = new JsonArray();
+
+                for (Element element : types.asElement(type).getEnclosedElements())
+                {
+                    if (element.getKind() == ElementKind.ENUM_CONSTANT)
+                    {
+                        values.add(element.getSimpleName().toString());
+                    }
+                }
+
+                json.addProperty("type", TYPE_STRING);
+                json.add("enum", values);
+                break;
+
+            default:
+                break;
+        }
+    }
+
+    private void fillArray(JsonObject json, TypeMirror type)
+    {
+        json.addProperty("type", TYPE_ARRAY);
+        json.add("items", schema(types.erasure(((ArrayType) type).getComponentType()), true));
+    }
+
+    private void fillReference(JsonObject json, TypeMirror type)
+    {
+        json.addProperty("$ref", String.format("#/definitions/%s", name(type)));
+    }
+
+    private Kind kind(TypeMirror type)
+    {
+        switch (type.getKind())
+        {
+            case BOOLEAN:
+                return Kind.BOOLEAN;
+
+            case CHAR:
+                return Kind.STRING;
+
+            case INT:
+            case LONG:
+                return Kind.INTEGER;
+
+            case FLOAT:
+            case DOUBLE:
+                return Kind.NUMBER;
+
+            case BYTE:
+            case SHORT:
+                return Kind.OBJECT;
+
+            case ARRAY:
+                return Kind.ARRAY;
+
+            case DECLARED:
+                TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+
+                if (element.getKind() == ElementKind.ENUM)
+                {
+                    return Kind.ENUM;
+                }
+
+                switch (element.getQualifiedName().toString())
+                {
+                    case "java.lang.String":
+                    case "java.lang.Character":
+                        return Kind.STRING;
+
+                    case "java.lang.Boolean":
+                        return Kind.BOOLEAN;
+
+                    case "java.lang.Integer":
+                    case "java.lang.Long":
+                        return Kind.INTEGER;
+
+                    case "java.lang.Float":
+                    case "java.lang.Double":
+                        return Kind.NUMBER;
+
+                    case "java.util.Date":
+                        return Kind.DATE;
+
+                    case "java.net.URI":
+                        return Kind.URI;
+
+                    case "java.io.File":
+                        return Kind.FILE;
+
+                    case "com.mauriciotogneri.jsonschema.Null":
+                        return Kind.NULL;
+
+                    case "java.lang.Object":
+                        return Kind.ROOT_OBJECT;
+
+                    default:
+                        return Kind.OBJECT;
+                }
+
+            case TYPEVAR:
+                return kind(types.erasure(type));
+
+            default:
+                return Kind.ROOT_OBJECT;
+        }
+    }
+
+    private String name(TypeMirror type)
+    {
+        if (type.getKind() == TypeKind.DECLARED)
+        {
+            return ((TypeElement) ((DeclaredType) type).asElement()).getQualifiedName().toString();
+        }
+        else if (type.getKind() == TypeKind.TYPEVAR)
+        {
+            return name(types.erasure(type));
+        }
+        else
+        {
+            return type.toString();
+        }
+    }
+
+    private List<VariableElement> fields(TypeMirror type)
+    {
+        Set<VariableElement> result = new LinkedHashSet<>();
+
+        if (type.getKind() == TypeKind.DECLARED)
+        {
+            addFields((TypeElement) ((DeclaredType) type).asElement(), result);
+        }
+
+        List<VariableElement> fields = new ArrayList<>(result);
+        Collections.sort(fields, new Comparator<VariableElement>()
+        {
+            @Override
+            public int compare(VariableElement first, VariableElement second)
+            {
+                int order = first.getSimpleName().toString().compareTo(second.getSimpleName().toString());
+
+                return (order != 0) ? order : binaryName(first).compareTo(binaryName(second));
+            }
+        });
+
+        return fields;
+    }
+
+    private String binaryName(VariableElement field)
+    {
+        return elements.getBinaryName((TypeElement) field.getEnclosingElement()).toString();
+    }
+
+    private void addFields(TypeElement typeElement, Set<VariableElement> result)
+    {
+        for (Element element : typeElement.getEnclosedElements())
+        {
+            if ((element.getKind() == ElementKind.FIELD) && element.getModifiers().contains(Modifier.PUBLIC))
+            {
+                result.add((VariableElement) element);
+            }
+        }
+
+        for (TypeMirror superinterface : typeElement.getInterfaces())
+        {
+            addFields((TypeElement) types.asElement(superinterface), result);
+        }
+
+        TypeMirror superclass = typeElement.getSuperclass();
+
+        if ((typeElement.getKind() != ElementKind.INTERFACE) && (superclass.getKind() == TypeKind.DECLARED))
+        {
+            addFields((TypeElement) types.asElement(superclass), result);
+        }
+    }
+
+    private Map<String, Object> annotations(VariableElement field)
+    {
+        Map<String, Object> result = new HashMap<>();
+
+        for (AnnotationMirror annotation : field.getAnnotationMirrors())
+        {
+            TypeElement annotationType = (TypeElement) annotation.getAnnotationType().asElement();
+            String name = annotationType.getQualifiedName().toString();
+
+            if (name.startsWith(ANNOTATIONS_PACKAGE))
+            {
+                Object value = Boolean.TRUE;
+
+                for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : elements.getElementValuesWithDefaults(annotation).entrySet())
+                {
+                    if (entry.getKey().getSimpleName().contentEquals("value"))
+                    {
+                        value = entry.getValue().getValue();
+                    }
+                }
+
+                result.put(name.substring(ANNOTATIONS_PACKAGE.length()), value);
+            }
+        }
+
+        return result;
+    }
+
+    private static String capitalize(String keyword)
+    {
+        return Character.toUpperCase(keyword.charAt(0)) + keyword.substring(1);
+    }
+}
@@ -0,0 +1,102 @@
+package com.mauriciotogneri.jsonschema.processor;
+
+import com.google.gson.JsonObject;
+import com.mauriciotogneri.jsonschema.PrecompiledSchemas;
+import com.mauriciotogneri.jsonschema.annotations.GenerateSchema;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+public class SchemaProcessor extends AbstractProcessor
+{
+    private final Set<String> generated = new TreeSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes()
+    {
+        return Collections.singleton(GenerateSchema.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion()
+    {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnvironment)
+    {
+        ElementSchema elementSchema = new ElementSchema(processingEnv.getElementUtils(), processingEnv.getTypeUtils());
+
+        for (Element element : roundEnvironment.getElementsAnnotatedWith(GenerateSchema.class))
+        {
+            if (element instanceof TypeElement)
+            {
+                TypeElement typeElement = (TypeElement) element;
+                String className = processingEnv.getElementUtils().getBinaryName(typeElement).toString();
+
+                try
+                {
+                    write(PrecompiledSchemas.resource(className), elementSchema.schema(typeElement), element);
+                    generated.add(className);
+                }
+                catch (Exception e)
+                {
+                    processingEnv.getMessager().printMessage(Kind.ERROR, String.format("Cannot generate schema for %s: %s", className, e.getMessage()), element);
+                }
+            }
+        }
+
+        if (roundEnvironment.processingOver() && !generated.isEmpty())
+        {
+            try
+            {
+                writeIndex();
+            }
+            catch (IOException e)
+            {
+                processingEnv.getMessager().printMessage(Kind.ERROR, String.format("Cannot write schema index: %s", e.getMessage()));
+            }
+        }
+
+        return true;
+    }
+
+    private void write(String path, JsonObject schema, Element element) throws IOException
+    {
+        FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", path, element);
+
+        try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8))
+        {
+            writer.write(schema.toString());
+        }
+    }
+
+    private void writeIndex() throws IOException
+    {
+        FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", PrecompiledSchemas.INDEX);
+
+        try (Writer writer = new OutputStreamWriter(file.openOutputStream(), StandardCharsets.UTF_8))
+        {
+            for (String className : generated)
+            {
+                writer.write(className);
+                writer.write('\n');
+            }
+        }
+    }
+}
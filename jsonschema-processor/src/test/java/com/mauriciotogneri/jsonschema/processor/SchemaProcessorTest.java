@@ -0,0 +1,102 @@
+package com.mauriciotogneri.jsonschema.processor;
+
+import com.google.gson.JsonObject;
+import com.mauriciotogneri.jsonschema.JsonSchema;
+import com.mauriciotogneri.jsonschema.PrecompiledSchemas;
+import com.mauriciotogneri.jsonschema.annotations.GenerateSchema;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class SchemaProcessorTest
+{
+    private static final String[] FIXTURES = {"Order", "Entity"};
+
+    private static Path output;
+    private static ClassLoader classLoader;
+
+    @BeforeClass
+    public static void compileFixtures() throws Exception
+    {
+        output = Files.createTempDirectory("jsonschema-processor");
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8))
+        {
+            File[] sources = new File[FIXTURES.length];
+
+            for (int i = 0; i < FIXTURES.length; i++)
+            {
+                sources[i] = new File(SchemaProcessorTest.class.getResource(String.format("/fixtures/%s.java", FIXTURES[i])).toURI());
+            }
+
+            String classPath = location(GenerateSchema.class) + File.pathSeparator + location(JsonObject.class);
+            List<String> options = Arrays.asList("-classpath", classPath, "-d", output.toString());
+            Iterable<? extends JavaFileObject> units = fileManager.getJavaFileObjects(sources);
+
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, null, options, null, units);
+            task.setProcessors(Collections.singletonList(new SchemaProcessor()));
+
+            assertTrue(task.call());
+        }
+
+        classLoader = new URLClassLoader(new URL[] {output.toUri().toURL()}, SchemaProcessorTest.class.getClassLoader());
+    }
+
+    @Test
+    public void generatesSameSchemaAsRuntime() throws Exception
+    {
+        Class<?> clazz = classLoader.loadClass("fixtures.Order");
+        String precompiled = read(output.resolve(PrecompiledSchemas.resource(clazz.getName())));
+
+        assertEquals(new JsonSchema(clazz).schema().toString(), precompiled);
+    }
+
+    @Test
+    public void emitsEnumConstantNames() throws Exception
+    {
+        Class<?> clazz = classLoader.loadClass("fixtures.Order");
+        JsonObject schema = new JsonSchema(clazz).schema();
+        JsonObject currency = schema.getAsJsonObject("definitions").getAsJsonObject("fixtures.Order").getAsJsonObject("properties").getAsJsonObject("currency");
+
+        assertEquals("[\"EUR\",\"USD\"]", currency.getAsJsonArray("enum").toString());
+    }
+
+    @Test
+    public void writesIndex() throws Exception
+    {
+        assertEquals("fixtures.Order\n", read(output.resolve(PrecompiledSchemas.INDEX)));
+    }
+
+    private static String location(Class<?> clazz) throws URISyntaxException
+    {
+        return Paths.get(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    }
+
+    private static String read(Path path) throws IOException
+    {
+        return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,8 @@
+package fixtures;
+
+public class Entity
+{
+    public String id;
+
+    public long version;
+}
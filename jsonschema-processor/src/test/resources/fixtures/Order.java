@@ -0,0 +1,91 @@
+package fixtures;
+
+import com.mauriciotogneri.jsonschema.annotations.AnyOf;
+import com.mauriciotogneri.jsonschema.annotations.Description;
+import com.mauriciotogneri.jsonschema.annotations.Format;
+import com.mauriciotogneri.jsonschema.annotations.GenerateSchema;
+import com.mauriciotogneri.jsonschema.annotations.MaxLength;
+import com.mauriciotogneri.jsonschema.annotations.Maximum;
+import com.mauriciotogneri.jsonschema.annotations.MinItems;
+import com.mauriciotogneri.jsonschema.annotations.Minimum;
+import com.mauriciotogneri.jsonschema.annotations.MultipleOf;
+import com.mauriciotogneri.jsonschema.annotations.OneOf;
+import com.mauriciotogneri.jsonschema.annotations.Optional;
+import com.mauriciotogneri.jsonschema.annotations.Pattern;
+import com.mauriciotogneri.jsonschema.annotations.Title;
+import com.mauriciotogneri.jsonschema.annotations.UniqueItems;
+
+import java.net.URI;
+import java.util.Date;
+
+@GenerateSchema
+public class Order extends Entity
+{
+    @Description("order number")
+    @Pattern("^[A-Z]{2}[0-9]+$")
+    @MaxLength(12)
+    public String number;
+
+    @Minimum(1)
+    @Maximum(100)
+    public int quantity;
+
+    @MultipleOf(0.01f)
+    public double total;
+
+    public Currency currency;
+
+    @MinItems(1)
+    @UniqueItems(true)
+    public Line[] lines;
+
+    @Optional
+    @Title("Delivery")
+    public Address address;
+
+    @OneOf({Address.class, String.class})
+    public Object destination;
+
+    @AnyOf({String.class, Integer.class})
+    @Optional
+    public Object reference;
+
+    @Format("email")
+    @Optional
+    public String contact;
+
+    public Date created;
+
+    @Optional
+    public URI link;
+
+    public boolean paid;
+
+    public static class Line
+    {
+        public String product;
+        public long amount;
+        public Currency currency;
+    }
+
+    public static class Address
+    {
+        public String street;
+
+        @Optional
+        public Address previous;
+    }
+
+    public enum Currency
+    {
+        EUR,
+        USD
+        {
+            @Override
+            public String toString()
+            {
+                return "US dollar";
+            }
+        }
+    }
+}
@@ -1,226 +1,162 @@
 package com.mauriciotogneri.jsonschema;
 
-import com.mauriciotogneri.jsonschema.annotations.AdditionalItems;
-import com.mauriciotogneri.jsonschema.annotations.AdditionalProperties;
-import com.mauriciotogneri.jsonschema.annotations.AllOf;
-import com.mauriciotogneri.jsonschema.annotations.AnyOf;
-import com.mauriciotogneri.jsonschema.annotations.Default;
-import com.mauriciotogneri.jsonschema.annotations.Description;
-import com.mauriciotogneri.jsonschema.annotations.ExclusiveMaximum;
-import com.mauriciotogneri.jsonschema.annotations.ExclusiveMinimum;
-import com.mauriciotogneri.jsonschema.annotations.Format;
-import com.mauriciotogneri.jsonschema.annotations.MaxItems;
-import com.mauriciotogneri.jsonschema.annotations.MaxLength;
-import com.mauriciotogneri.jsonschema.annotations.MaxProperties;
-import com.mauriciotogneri.jsonschema.annotations.Maximum;
-import com.mauriciotogneri.jsonschema.annotations.MinItems;
-import com.mauriciotogneri.jsonschema.annotations.MinLength;
-import com.mauriciotogneri.jsonschema.annotations.MinProperties;
-import com.mauriciotogneri.jsonschema.annotations.Minimum;
-import com.mauriciotogneri.jsonschema.annotations.MultipleOf;
-import com.mauriciotogneri.jsonschema.annotations.Name;
-import com.mauriciotogneri.jsonschema.annotations.Not;
-import com.mauriciotogneri.jsonschema.annotations.OneOf;
-import com.mauriciotogneri.jsonschema.annotations.Optional;
-import com.mauriciotogneri.jsonschema.annotations.Pattern;
-import com.mauriciotogneri.jsonschema.annotations.Title;
-import com.mauriciotogneri.jsonschema.annotations.UniqueItems;
-
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 
 public class Annotations
 {
     private final Annotation[] annotations;
+    private final Constraints constraints;
 
     public Annotations(Field field)
     {
-        this.annotations = field.getAnnotations();
+        this(field.getAnnotations());
     }
 
     public Annotations(Class<?> clazz)
     {
-        this.annotations = clazz.getAnnotations();
+        this(clazz.getAnnotations());
     }
 
     public Annotations(TypeDefinition typeDefinition)
     {
-        this.annotations = typeDefinition.annotations();
+        this(typeDefinition.cachedAnnotations());
     }
 
-    public String name()
+    private Annotations(Annotation[] annotations)
     {
-        Name name = annotation(Name.class);
+        this.annotations = annotations;
+        this.constraints = new Constraints(annotations);
+    }
 
-        return (name != null) ? name.value() : null;
+    public Constraints constraints()
+    {
+        return constraints;
     }
 
-    public String title()
+    public String name()
     {
-        Title title = annotation(Title.class);
+        return constraints.name();
+    }
 
-        return (title != null) ? title.value() : null;
+    public String title()
+    {
+        return constraints.title();
     }
 
     public Boolean optional()
     {
-        Optional optional = annotation(Optional.class);
-
-        return (optional != null);
+        return constraints.has(Constraints.OPTIONAL);
     }
 
     public String description()
     {
-        Description description = annotation(Description.class);
-
-        return (description != null) ? description.value() : null;
+        return constraints.description();
     }
 
     public String format()
     {
-        Format format = annotation(Format.class);
-
-        return (format != null) ? format.value() : null;
+        return constraints.format();
     }
 
     public String pattern()
     {
-        Pattern pattern = annotation(Pattern.class);
-
-        return (pattern != null) ? pattern.value() : null;
+        return constraints.pattern();
     }
 
     public Integer minimum()
     {
-        Minimum minimum = annotation(Minimum.class);
-
-        return (minimum != null) ? minimum.value() : null;
+        return constraints.has(Constraints.MINIMUM) ? constraints.minimum() : null;
     }
 
     public Integer maximum()
     {
-        Maximum maximum = annotation(Maximum.class);
-
-        return (maximum != null) ? maximum.value() : null;
+        return constraints.has(Constraints.MAXIMUM) ? constraints.maximum() : null;
     }
 
     public Float multipleOf()
     {
-        MultipleOf multipleOf = annotation(MultipleOf.class);
-
-        return (multipleOf != null) ? multipleOf.value() : null;
+        return constraints.has(Constraints.MULTIPLE_OF) ? constraints.multipleOf() : null;
     }
 
     public Boolean exclusiveMinimum()
     {
-        ExclusiveMinimum exclusiveMinimum = annotation(ExclusiveMinimum.class);
-
-        return (exclusiveMinimum != null) ? exclusiveMinimum.value() : null;
+        return constraints.has(Constraints.EXCLUSIVE_MINIMUM) ? constraints.exclusiveMinimum() : null;
     }
 
     public Boolean exclusiveMaximum()
     {
-        ExclusiveMaximum exclusiveMaximum = annotation(ExclusiveMaximum.class);
-
-        return (exclusiveMaximum != null) ? exclusiveMaximum.value() : null;
+        return constraints.has(Constraints.EXCLUSIVE_MAXIMUM) ? constraints.exclusiveMaximum() : null;
     }
 
     public Boolean uniqueItems()
     {
-        UniqueItems uniqueItems = annotation(UniqueItems.class);
-
-        return (uniqueItems != null) ? uniqueItems.value() : null;
+        return constraints.has(Constraints.UNIQUE_ITEMS) ? constraints.uniqueItems() : null;
     }
 
     public Boolean additionalItems()
     {
-        AdditionalItems additionalItems = annotation(AdditionalItems.class);
-
-        return (additionalItems != null) ? additionalItems.value() : null;
+        return constraints.has(Constraints.ADDITIONAL_ITEMS) ? constraints.additionalItems() : null;
     }
 
     public Boolean additionalProperties()
     {
-        AdditionalProperties additionalProperties = annotation(AdditionalProperties.class);
-
-        return (additionalProperties != null) ? additionalProperties.value() : null;
+        return constraints.has(Constraints.ADDITIONAL_PROPERTIES) ? constraints.additionalProperties() : null;
     }
 
     public Integer minProperties()
     {
-        MinProperties minProperties = annotation(MinProperties.class);
-
-        return (minProperties != null) ? minProperties.value() : null;
+        return constraints.has(Constraints.MIN_PROPERTIES) ? constraints.minProperties() : null;
     }
 
     public Integer maxProperties()
     {
-        MaxProperties maxProperties = annotation(MaxProperties.class);
-
-        return (maxProperties != null) ? maxProperties.value() : null;
+        return constraints.has(Constraints.MAX_PROPERTIES) ? constraints.maxProperties() : null;
     }
 
     public Integer minLength()
     {
-        MinLength minLength = annotation(MinLength.class);
-
-        return (minLength != null) ? minLength.value() : null;
+        return constraints.has(Constraints.MIN_LENGTH) ? constraints.minLength() : null;
     }
 
     public Integer maxLength()
     {
-        MaxLength maxLength = annotation(MaxLength.class);
-
-        return (maxLength != null) ? maxLength.value() : null;
+        return constraints.has(Constraints.MAX_LENGTH) ? constraints.maxLength() : null;
     }
 
     public Integer minItems()
     {
-        MinItems minItems = annotation(MinItems.class);
-
-        return (minItems != null) ? minItems.value() : null;
+        return constraints.has(Constraints.MIN_ITEMS) ? constraints.minItems() : null;
     }
 
     public Integer maxItems()
     {
-        MaxItems maxItems = annotation(MaxItems.class);
-
-        return (maxItems != null) ? maxItems.value() : null;
+        return constraints.has(Constraints.MAX_ITEMS) ? constraints.maxItems() : null;
     }
 
     public TypeDefinition[] allOf()
     {
-        AllOf allOf = annotation(AllOf.class);
-
-        return (allOf != null) ? TypeDefinition.fromList(allOf.value()) : null;
+        return constraints.allOf();
     }
 
     public TypeDefinition[] anyOf()
     {
-        AnyOf anyOf = annotation(AnyOf.class);
-
-        return (anyOf != null) ? TypeDefinition.fromList(anyOf.value()) : null;
+        return constraints.anyOf();
     }
 
     public TypeDefinition[] oneOf()
     {
-        OneOf oneOf = annotation(OneOf.class);
-
-        return (oneOf != null) ? TypeDefinition.fromList(oneOf.value()) : null;
+        return constraints.oneOf();
     }
 
     public TypeDefinition not()
     {
-        Not not = annotation(Not.class);
-
-        return (not != null) ? new TypeDefinition(not.value()) : null;
+        return constraints.not();
     }
 
     public String defaultValue()
     {
-        Default defaultValue = annotation(Default.class);
-
-        return (defaultValue != null) ? defaultValue.value() : null;
+        return constraints.defaultValue();
     }
 
     @SuppressWarnings("unchecked")
@@ -236,4 +172,4 @@ public class Annotations
 
         return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,99 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+
+import java.util.Collections;
+import java.util.List;
+
+public class BatchReport
+{
+    private final List<ProcessingReport> reports;
+    private final List<ProcessingException> failures;
+    private final int valid;
+    private final int invalid;
+    private final int failed;
+    private final long elapsedNanos;
+
+    public BatchReport(List<ProcessingReport> reports, List<ProcessingException> failures, long elapsedNanos)
+    {
+        this.reports = Collections.unmodifiableList(reports);
+        this.failures = Collections.unmodifiableList(failures);
+        this.elapsedNanos = elapsedNanos;
+
+        int valid = 0;
+        int invalid = 0;
+        int failed = 0;
+
+        for (int i = 0; i < reports.size(); i++)
+        {
+            if (failures.get(i) != null)
+            {
+                failed++;
+            }
+            else if (reports.get(i).isSuccess())
+            {
+                valid++;
+            }
+            else
+            {
+                invalid++;
+            }
+        }
+
+        this.valid = valid;
+        this.invalid = invalid;
+        this.failed = failed;
+    }
+
+    public ProcessingReport report(int index)
+    {
+        return reports.get(index);
+    }
+
+    public ProcessingException failure(int index)
+    {
+        return failures.get(index);
+    }
+
+    public List<ProcessingReport> reports()
+    {
+        return reports;
+    }
+
+    public int size()
+    {
+        return reports.size();
+    }
+
+    public int valid()
+    {
+        return valid;
+    }
+
+    public int invalid()
+    {
+        return invalid;
+    }
+
+    public int failed()
+    {
+        return failed;
+    }
+
+    public boolean isSuccess()
+    {
+        return valid == reports.size();
+    }
+
+    public long elapsedNanos()
+    {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("%d documents: %d valid, %d invalid, %d failed in %d ms", size(), valid, invalid, failed, elapsedNanos / 1000000);
+    }
+}
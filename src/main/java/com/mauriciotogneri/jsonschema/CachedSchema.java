@@ -0,0 +1,48 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.google.gson.JsonObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+final class CachedSchema
+{
+    private final JsonObject schema;
+    private final long generation;
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    private volatile SerializedSchema serialized;
+
+    CachedSchema(JsonObject schema, long generation)
+    {
+        this.schema = schema;
+        this.generation = generation;
+    }
+
+    JsonObject schema()
+    {
+        return schema;
+    }
+
+    long generation()
+    {
+        return generation;
+    }
+
+    boolean claim()
+    {
+        return claimed.compareAndSet(false, true);
+    }
+
+    SerializedSchema serialized()
+    {
+        SerializedSchema result = serialized;
+
+        if (result == null)
+        {
+            result = new SerializedSchema(schema.toString().getBytes(StandardCharsets.UTF_8));
+            this.serialized = result;
+        }
+
+        return result;
+    }
+}
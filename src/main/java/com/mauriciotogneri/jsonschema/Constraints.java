@@ -0,0 +1,420 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.mauriciotogneri.jsonschema.annotations.AdditionalItems;
+import com.mauriciotogneri.jsonschema.annotations.AdditionalProperties;
+import com.mauriciotogneri.jsonschema.annotations.AllOf;
+import com.mauriciotogneri.jsonschema.annotations.AnyOf;
+import com.mauriciotogneri.jsonschema.annotations.Default;
+import com.mauriciotogneri.jsonschema.annotations.Description;
+import com.mauriciotogneri.jsonschema.annotations.ExclusiveMaximum;
+import com.mauriciotogneri.jsonschema.annotations.ExclusiveMinimum;
+import com.mauriciotogneri.jsonschema.annotations.Format;
+import com.mauriciotogneri.jsonschema.annotations.MaxItems;
+import com.mauriciotogneri.jsonschema.annotations.MaxLength;
+import com.mauriciotogneri.jsonschema.annotations.MaxProperties;
+import com.mauriciotogneri.jsonschema.annotations.Maximum;
+import com.mauriciotogneri.jsonschema.annotations.MinItems;
+import com.mauriciotogneri.jsonschema.annotations.MinLength;
+import com.mauriciotogneri.jsonschema.annotations.MinProperties;
+import com.mauriciotogneri.jsonschema.annotations.Minimum;
+import com.mauriciotogneri.jsonschema.annotations.MultipleOf;
+import com.mauriciotogneri.jsonschema.annotations.Name;
+import com.mauriciotogneri.jsonschema.annotations.Not;
+import com.mauriciotogneri.jsonschema.annotations.OneOf;
+import com.mauriciotogneri.jsonschema.annotations.Optional;
+import com.mauriciotogneri.jsonschema.annotations.Pattern;
+import com.mauriciotogneri.jsonschema.annotations.Title;
+import com.mauriciotogneri.jsonschema.annotations.UniqueItems;
+
+import java.lang.annotation.Annotation;
+
+public final class Constraints
+{
+    public static final int NAME = 1;
+    public static final int TITLE = 1 << 1;
+    public static final int DESCRIPTION = 1 << 2;
+    public static final int DEFAULT = 1 << 3;
+    public static final int FORMAT = 1 << 4;
+    public static final int PATTERN = 1 << 5;
+    public static final int OPTIONAL = 1 << 6;
+    public static final int MINIMUM = 1 << 7;
+    public static final int MAXIMUM = 1 << 8;
+    public static final int MULTIPLE_OF = 1 << 9;
+    public static final int EXCLUSIVE_MINIMUM = 1 << 10;
+    public static final int EXCLUSIVE_MAXIMUM = 1 << 11;
+    public static final int UNIQUE_ITEMS = 1 << 12;
+    public static final int ADDITIONAL_ITEMS = 1 << 13;
+    public static final int ADDITIONAL_PROPERTIES = 1 << 14;
+    public static final int MIN_PROPERTIES = 1 << 15;
+    public static final int MAX_PROPERTIES = 1 << 16;
+    public static final int MIN_LENGTH = 1 << 17;
+    public static final int MAX_LENGTH = 1 << 18;
+    public static final int MIN_ITEMS = 1 << 19;
+    public static final int MAX_ITEMS = 1 << 20;
+    public static final int ALL_OF = 1 << 21;
+    public static final int ANY_OF = 1 << 22;
+    public static final int ONE_OF = 1 << 23;
+    public static final int NOT = 1 << 24;
+
+    private final int flags;
+
+    private final String name;
+    private final String title;
+    private final String description;
+    private final String defaultValue;
+    private final String format;
+    private final String pattern;
+
+    private final int minimum;
+    private final int maximum;
+    private final float multipleOf;
+    private final int minProperties;
+    private final int maxProperties;
+    private final int minLength;
+    private final int maxLength;
+    private final int minItems;
+    private final int maxItems;
+
+    private final boolean exclusiveMinimum;
+    private final boolean exclusiveMaximum;
+    private final boolean uniqueItems;
+    private final boolean additionalItems;
+    private final boolean additionalProperties;
+
+    private final TypeDefinition[] allOf;
+    private final TypeDefinition[] anyOf;
+    private final TypeDefinition[] oneOf;
+    private final TypeDefinition not;
+
+    public Constraints(Annotation[] annotations)
+    {
+        int flags = 0;
+
+        String name = null;
+        String title = null;
+        String description = null;
+        String defaultValue = null;
+        String format = null;
+        String pattern = null;
+
+        int minimum = 0;
+        int maximum = 0;
+        float multipleOf = 0;
+        int minProperties = 0;
+        int maxProperties = 0;
+        int minLength = 0;
+        int maxLength = 0;
+        int minItems = 0;
+        int maxItems = 0;
+
+        boolean exclusiveMinimum = false;
+        boolean exclusiveMaximum = false;
+        boolean uniqueItems = false;
+        boolean additionalItems = false;
+        boolean additionalProperties = false;
+
+        TypeDefinition[] allOf = null;
+        TypeDefinition[] anyOf = null;
+        TypeDefinition[] oneOf = null;
+        TypeDefinition not = null;
+
+        for (Annotation annotation : annotations)
+        {
+            if (annotation instanceof Name)
+            {
+                flags |= NAME;
+                name = ((Name) annotation).value();
+            }
+            else if (annotation instanceof Title)
+            {
+                flags |= TITLE;
+                title = ((Title) annotation).value();
+            }
+            else if (annotation instanceof Description)
+            {
+                flags |= DESCRIPTION;
+                description = ((Description) annotation).value();
+            }
+            else if (annotation instanceof Default)
+            {
+                flags |= DEFAULT;
+                defaultValue = ((Default) annotation).value();
+            }
+            else if (annotation instanceof Format)
+            {
+                flags |= FORMAT;
+                format = ((Format) annotation).value();
+            }
+            else if (annotation instanceof Pattern)
+            {
+                flags |= PATTERN;
+                pattern = ((Pattern) annotation).value();
+            }
+            else if (annotation instanceof Optional)
+            {
+                flags |= OPTIONAL;
+            }
+            else if (annotation instanceof Minimum)
+            {
+                flags |= MINIMUM;
+                minimum = ((Minimum) annotation).value();
+            }
+            else if (annotation instanceof Maximum)
+            {
+                flags |= MAXIMUM;
+                maximum = ((Maximum) annotation).value();
+            }
+            else if (annotation instanceof MultipleOf)
+            {
+                flags |= MULTIPLE_OF;
+                multipleOf = ((MultipleOf) annotation).value();
+            }
+            else if (annotation instanceof ExclusiveMinimum)
+            {
+                flags |= EXCLUSIVE_MINIMUM;
+                exclusiveMinimum = ((ExclusiveMinimum) annotation).value();
+            }
+            else if (annotation instanceof ExclusiveMaximum)
+            {
+                flags |= EXCLUSIVE_MAXIMUM;
+                exclusiveMaximum = ((ExclusiveMaximum) annotation).value();
+            }
+            else if (annotation instanceof UniqueItems)
+            {
+                flags |= UNIQUE_ITEMS;
+                uniqueItems = ((UniqueItems) annotation).value();
+            }
+            else if (annotation instanceof AdditionalItems)
+            {
+                flags |= ADDITIONAL_ITEMS;
+                additionalItems = ((AdditionalItems) annotation).value();
+            }
+            else if (annotation instanceof AdditionalProperties)
+            {
+                flags |= ADDITIONAL_PROPERTIES;
+                additionalProperties = ((AdditionalProperties) annotation).value();
+            }
+            else if (annotation instanceof MinProperties)
+            {
+                flags |= MIN_PROPERTIES;
+                minProperties = ((MinProperties) annotation).value();
+            }
+            else if (annotation instanceof MaxProperties)
+            {
+                flags |= MAX_PROPERTIES;
+                maxProperties = ((MaxProperties) annotation).value();
+            }
+            else if (annotation instanceof MinLength)
+            {
+                flags |= MIN_LENGTH;
+                minLength = ((MinLength) annotation).value();
+            }
+            else if (annotation instanceof MaxLength)
+            {
+                flags |= MAX_LENGTH;
+                maxLength = ((MaxLength) annotation).value();
+            }
+            else if (annotation instanceof MinItems)
+            {
+                flags |= MIN_ITEMS;
+                minItems = ((MinItems) annotation).value();
+            }
+            else if (annotation instanceof MaxItems)
+            {
+                flags |= MAX_ITEMS;
+                maxItems = ((MaxItems) annotation).value();
+            }
+            else if (annotation instanceof AllOf)
+            {
+                flags |= ALL_OF;
+                allOf = TypeDefinition.fromList(((AllOf) annotation).value());
+            }
+            else if (annotation instanceof AnyOf)
+            {
+                flags |= ANY_OF;
+                anyOf = TypeDefinition.fromList(((AnyOf) annotation).value());
+            }
+            else if (annotation instanceof OneOf)
+            {
+                flags |= ONE_OF;
+                oneOf = TypeDefinition.fromList(((OneOf) annotation).value());
+            }
+            else if (annotation instanceof Not)
+            {
+                flags |= NOT;
+                not = TypeDefinition.of(((Not) annotation).value());
+            }
+        }
+
+        this.flags = flags;
+        this.name = name;
+        this.title = title;
+        this.description = description;
+        this.defaultValue = defaultValue;
+        this.format = format;
+        this.pattern = pattern;
+        this.minimum = minimum;
+        this.maximum = maximum;
+        this.multipleOf = multipleOf;
+        this.minProperties = minProperties;
+        this.maxProperties = maxProperties;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+        this.minItems = minItems;
+        this.maxItems = maxItems;
+        this.exclusiveMinimum = exclusiveMinimum;
+        this.exclusiveMaximum = exclusiveMaximum;
+        this.uniqueItems = uniqueItems;
+        this.additionalItems = additionalItems;
+        this.additionalProperties = additionalProperties;
+        this.allOf = allOf;
+        this.anyOf = anyOf;
+        this.oneOf = oneOf;
+        this.not = not;
+    }
+
+    public int flags()
+    {
+        return flags;
+    }
+
+    public boolean has(int flag)
+    {
+        return (flags & flag) != 0;
+    }
+
+    public String name()
+    {
+        return name;
+    }
+
+    public String title()
+    {
+        return title;
+    }
+
+    public String description()
+    {
+        return description;
+    }
+
+    public String defaultValue()
+    {
+        return defaultValue;
+    }
+
+    public String format()
+    {
+        return format;
+    }
+
+    public String pattern()
+    {
+        return pattern;
+    }
+
+    public int minimum()
+    {
+        return minimum;
+    }
+
+    public int maximum()
+    {
+        return maximum;
+    }
+
+    public float multipleOf()
+    {
+        return multipleOf;
+    }
+
+    public int minProperties()
+    {
+        return minProperties;
+    }
+
+    public int maxProperties()
+    {
+        return maxProperties;
+    }
+
+    public int minLength()
+    {
+        return minLength;
+    }
+
+    public int maxLength()
+    {
+        return maxLength;
+    }
+
+    public int minItems()
+    {
+        return minItems;
+    }
+
+    public int maxItems()
+    {
+        return maxItems;
+    }
+
+    public boolean exclusiveMinimum()
+    {
+        return exclusiveMinimum;
+    }
+
+    public boolean exclusiveMaximum()
+    {
+        return exclusiveMaximum;
+    }
+
+    public boolean uniqueItems()
+    {
+        return uniqueItems;
+    }
+
+    public boolean additionalItems()
+    {
+        return additionalItems;
+    }
+
+    public boolean additionalProperties()
+    {
+        return additionalProperties;
+    }
+
+    public TypeDefinition[] allOf()
+    {
+        return (allOf != null) ? allOf.clone() : null;
+    }
+
+    TypeDefinition[] cachedAllOf()
+    {
+        return allOf;
+    }
+
+    public TypeDefinition[] anyOf()
+    {
+        return (anyOf != null) ? anyOf.clone() : null;
+    }
+
+    TypeDefinition[] cachedAnyOf()
+    {
+        return anyOf;
+    }
+
+    public TypeDefinition[] oneOf()
+    {
+        return (oneOf != null) ? oneOf.clone() : null;
+    }
+
+    TypeDefinition[] cachedOneOf()
+    {
+        return oneOf;
+    }
+
+    public TypeDefinition not()
+    {
+        return not;
+    }
+}
@@ -1,7 +1,11 @@
 package com.mauriciotogneri.jsonschema;
 
-import java.util.HashMap;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 public class Definitions implements Iterable<TypeDefinition>
@@ -10,43 +14,94 @@ public class Definitions implements Iterable<TypeDefinition>
 
     public Definitions(TypeDefinition typeDefinition)
     {
-        this.definitions = new HashMap<>();
+        this.definitions = new LinkedHashMap<>();
         addType(typeDefinition);
     }
 
     public Definitions()
     {
-        this.definitions = new HashMap<>();
+        this.definitions = new LinkedHashMap<>();
     }
 
     public void addType(TypeDefinition typeDefinition)
     {
-        if (!typeDefinition.isPrimitive() && !typeDefinition.isRootObject())
+        Deque<TypeDefinition> pending = new ArrayDeque<>();
+        pending.push(typeDefinition);
+
+        while (!pending.isEmpty())
         {
-            if (typeDefinition.isArray())
-            {
-                addType(typeDefinition.componentType());
-            }
-            else
-            {
-                String className = typeDefinition.name();
+            TypeDefinition current = pending.pop();
 
-                if (!definitions.containsKey(className))
+            if (!current.isPrimitive() && !current.isRootObject())
+            {
+                if (current.isArray())
+                {
+                    pending.push(current.componentType());
+                }
+                else
                 {
-                    definitions.put(className, typeDefinition);
+                    String className = current.name();
 
-                    for (FieldDefinition field : typeDefinition.fields())
+                    if (!definitions.containsKey(className))
                     {
-                        addType(field.typeDefinition());
+                        definitions.put(className, current);
+
+                        GenerationTracer.Span span = GenerationTracer.begin(GenerationTracer.ADD_TYPE, className);
+                        List<TypeDefinition> references = references(current);
+                        GenerationTracer.end(span);
+
+                        for (int i = references.size() - 1; i >= 0; i--)
+                        {
+                            pending.push(references.get(i));
+                        }
                     }
                 }
             }
         }
     }
 
+    private List<TypeDefinition> references(TypeDefinition typeDefinition)
+    {
+        List<TypeDefinition> references = new ArrayList<>();
+
+        for (FieldDefinition field : typeDefinition.cachedFields())
+        {
+            references.add(field.typeDefinition());
+
+            Constraints constraints = field.annotations().constraints();
+
+            addAll(references, constraints.cachedAllOf());
+            addAll(references, constraints.cachedAnyOf());
+            addAll(references, constraints.cachedOneOf());
+
+            if (constraints.has(Constraints.NOT))
+            {
+                references.add(constraints.not());
+            }
+        }
+
+        return references;
+    }
+
+    private void addAll(List<TypeDefinition> references, TypeDefinition[] typeDefinitions)
+    {
+        if (typeDefinitions != null)
+        {
+            for (TypeDefinition typeDefinition : typeDefinitions)
+            {
+                references.add(typeDefinition);
+            }
+        }
+    }
+
+    public int size()
+    {
+        return definitions.size();
+    }
+
     @Override
     public Iterator<TypeDefinition> iterator()
     {
         return definitions.values().iterator();
     }
-}
\ No newline at end of file
+}
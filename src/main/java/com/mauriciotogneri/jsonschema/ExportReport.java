@@ -0,0 +1,59 @@
+package com.mauriciotogneri.jsonschema;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+public class ExportReport
+{
+    private final List<String> generated;
+    private final List<String> skipped;
+    private final List<String> removed;
+    private final Map<String, Throwable> failures;
+    private final long elapsedNanos;
+
+    public ExportReport(List<String> generated, List<String> skipped, List<String> removed, Map<String, Throwable> failures, long elapsedNanos)
+    {
+        this.generated = Collections.unmodifiableList(generated);
+        this.skipped = Collections.unmodifiableList(skipped);
+        this.removed = Collections.unmodifiableList(removed);
+        this.failures = Collections.unmodifiableMap(failures);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public List<String> generated()
+    {
+        return generated;
+    }
+
+    public List<String> skipped()
+    {
+        return skipped;
+    }
+
+    public List<String> removed()
+    {
+        return removed;
+    }
+
+    public Map<String, Throwable> failures()
+    {
+        return failures;
+    }
+
+    public boolean isSuccess()
+    {
+        return failures.isEmpty();
+    }
+
+    public long elapsedNanos()
+    {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("%d schemas generated, %d up to date, %d removed, %d failed in %d ms", generated.size(), skipped.size(), removed.size(), failures.size(), elapsedNanos / 1000000);
+    }
+}
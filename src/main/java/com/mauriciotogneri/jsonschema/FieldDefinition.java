@@ -5,10 +5,22 @@ import java.lang.reflect.Field;
 public class FieldDefinition
 {
     private final Field field;
+    private final TypeDefinition typeDefinition;
+    private final Annotations annotations;
 
     public FieldDefinition(Field field)
     {
         this.field = field;
+        this.typeDefinition = TypeDefinition.of(field.getType());
+
+        GenerationTracer.Span span = GenerationTracer.begin(GenerationTracer.ANNOTATIONS, field.getDeclaringClass().getCanonicalName());
+        this.annotations = new Annotations(field);
+        GenerationTracer.end(span);
+    }
+
+    public Field field()
+    {
+        return field;
     }
 
     public String name()
@@ -18,11 +30,11 @@ public class FieldDefinition
 
     public TypeDefinition typeDefinition()
     {
-        return new TypeDefinition(field.getType());
+        return typeDefinition;
     }
 
     public Annotations annotations()
     {
-        return new Annotations(field);
+        return annotations;
     }
 }
\ No newline at end of file
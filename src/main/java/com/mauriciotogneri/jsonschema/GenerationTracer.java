@@ -0,0 +1,345 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class GenerationTracer
+{
+    public static final String SCHEMA = "schema";
+    public static final String FIELDS = "fields";
+    public static final String ANNOTATIONS = "annotations";
+    public static final String ADD_TYPE = "addType";
+    public static final String FILL_OBJECT = "fillObject";
+    public static final String FILL_ARRAY = "fillArray";
+    public static final String APPLY_ANNOTATIONS = "applyAnnotations";
+
+    private static final String[] PHASES = {SCHEMA, FIELDS, ANNOTATIONS, ADD_TYPE, FILL_OBJECT, FILL_ARRAY, APPLY_ANNOTATIONS};
+
+    private static volatile GenerationTracer active;
+
+    private final ConcurrentLinkedQueue<Span> spans = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Span> current = new ThreadLocal<>();
+    private final long origin = System.nanoTime();
+    private final ThreadMXBean threads;
+    private final Method allocatedBytes;
+    private final Method setAllocatedMemoryEnabled;
+    private final boolean allocatedMemoryEnabled;
+
+    private GenerationTracer()
+    {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Method allocatedBytes = null;
+        Method setAllocatedMemoryEnabled = null;
+        boolean allocatedMemoryEnabled = false;
+
+        try
+        {
+            Class<?> extension = Class.forName("com.sun.management.ThreadMXBean");
+
+            if (extension.isInstance(bean) && (Boolean) extension.getMethod("isThreadAllocatedMemorySupported").invoke(bean))
+            {
+                allocatedBytes = extension.getMethod("getThreadAllocatedBytes", long.class);
+                setAllocatedMemoryEnabled = extension.getMethod("setThreadAllocatedMemoryEnabled", boolean.class);
+                allocatedMemoryEnabled = (Boolean) extension.getMethod("isThreadAllocatedMemoryEnabled").invoke(bean);
+                setAllocatedMemoryEnabled.invoke(bean, true);
+            }
+        }
+        catch (ReflectiveOperationException | RuntimeException e)
+        {
+            allocatedBytes = null;
+            setAllocatedMemoryEnabled = null;
+        }
+
+        this.threads = bean;
+        this.allocatedBytes = allocatedBytes;
+        this.setAllocatedMemoryEnabled = setAllocatedMemoryEnabled;
+        this.allocatedMemoryEnabled = allocatedMemoryEnabled;
+    }
+
+    public static GenerationTracer start()
+    {
+        GenerationTracer tracer = new GenerationTracer();
+        active = tracer;
+
+        return tracer;
+    }
+
+    public void stop()
+    {
+        if (active == this)
+        {
+            active = null;
+        }
+
+        if ((setAllocatedMemoryEnabled != null) && !allocatedMemoryEnabled)
+        {
+            invoke(setAllocatedMemoryEnabled, false);
+        }
+    }
+
+    static Span begin(String phase, String type)
+    {
+        GenerationTracer tracer = active;
+
+        return (tracer != null) ? new Span(tracer, phase, type) : null;
+    }
+
+    static void end(Span span)
+    {
+        if (span != null)
+        {
+            span.end();
+        }
+    }
+
+    private long allocatedBytes()
+    {
+        Object bytes = (allocatedBytes != null) ? invoke(allocatedBytes, Thread.currentThread().getId()) : null;
+
+        return (bytes != null) ? (Long) bytes : 0;
+    }
+
+    private Object invoke(Method method, Object... arguments)
+    {
+        try
+        {
+            return method.invoke(threads, arguments);
+        }
+        catch (ReflectiveOperationException | RuntimeException e)
+        {
+            return null;
+        }
+    }
+
+    public List<Span> spans()
+    {
+        return Collections.unmodifiableList(new ArrayList<>(spans));
+    }
+
+    public String summary()
+    {
+        Map<String, Total> phases = new LinkedHashMap<>();
+        Map<String, Map<String, Total>> types = new TreeMap<>();
+
+        for (String phase : PHASES)
+        {
+            phases.put(phase, new Total());
+        }
+
+        for (Span span : spans)
+        {
+            phases.get(span.phase).add(span);
+
+            Map<String, Total> type = types.get(span.type);
+
+            if (type == null)
+            {
+                type = new LinkedHashMap<>();
+                types.put(span.type, type);
+            }
+
+            Total total = type.get(span.phase);
+
+            if (total == null)
+            {
+                total = new Total();
+                type.put(span.phase, total);
+            }
+
+            total.add(span);
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append(String.format("%-20s %8s %12s %12s %14s%n", "phase", "count", "total (ms)", "self (ms)", "self (KB)"));
+
+        for (Map.Entry<String, Total> entry : phases.entrySet())
+        {
+            builder.append(String.format("%-20s %s%n", entry.getKey(), entry.getValue()));
+        }
+
+        List<Map.Entry<String, Map<String, Total>>> sorted = new ArrayList<>(types.entrySet());
+
+        Collections.sort(sorted, new Comparator<Map.Entry<String, Map<String, Total>>>()
+        {
+            @Override
+            public int compare(Map.Entry<String, Map<String, Total>> first, Map.Entry<String, Map<String, Total>> second)
+            {
+                return Long.compare(selfNanos(second.getValue()), selfNanos(first.getValue()));
+            }
+        });
+
+        for (Map.Entry<String, Map<String, Total>> type : sorted)
+        {
+            builder.append(String.format("%n%s%n", type.getKey()));
+
+            for (Map.Entry<String, Total> phase : type.getValue().entrySet())
+            {
+                builder.append(String.format("  %-18s %s%n", phase.getKey(), phase.getValue()));
+            }
+        }
+
+        return builder.toString();
+    }
+
+    private static long selfNanos(Map<String, Total> phases)
+    {
+        long nanos = 0;
+
+        for (Total total : phases.values())
+        {
+            nanos += total.selfNanos;
+        }
+
+        return nanos;
+    }
+
+    public void writeChromeTrace(Path path) throws IOException
+    {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8))
+        {
+            writeChromeTrace(writer);
+        }
+    }
+
+    public void writeChromeTrace(Writer writer) throws IOException
+    {
+        JsonWriter json = new JsonWriter(writer);
+        json.beginObject();
+        json.name("traceEvents");
+        json.beginArray();
+
+        for (Span span : spans)
+        {
+            json.beginObject();
+            json.name("name").value(span.phase);
+            json.name("cat").value("jsonschema");
+            json.name("ph").value("X");
+            json.name("ts").value((span.start - origin) / 1000.0);
+            json.name("dur").value(span.nanos / 1000.0);
+            json.name("pid").value(1);
+            json.name("tid").value(span.thread);
+            json.name("args");
+            json.beginObject();
+            json.name("type").value(span.type);
+            json.name("selfDuration").value(span.selfNanos() / 1000.0);
+            json.name("allocatedBytes").value(span.allocatedBytes);
+            json.endObject();
+            json.endObject();
+        }
+
+        json.endArray();
+        json.name("displayTimeUnit").value("ms");
+        json.endObject();
+        json.flush();
+    }
+
+    public static class Span
+    {
+        private final GenerationTracer tracer;
+        private final Span parent;
+        private final String phase;
+        private final String type;
+        private final long thread;
+        private final long start;
+        private final long startBytes;
+        private long nanos;
+        private long childNanos;
+        private long allocatedBytes;
+        private long childAllocatedBytes;
+
+        private Span(GenerationTracer tracer, String phase, String type)
+        {
+            this.tracer = tracer;
+            this.parent = tracer.current.get();
+            this.phase = phase;
+            this.type = type;
+            this.thread = Thread.currentThread().getId();
+            this.startBytes = tracer.allocatedBytes();
+            this.start = System.nanoTime();
+            tracer.current.set(this);
+        }
+
+        private void end()
+        {
+            this.nanos = System.nanoTime() - start;
+            this.allocatedBytes = tracer.allocatedBytes() - startBytes;
+            tracer.current.set(parent);
+
+            if (parent != null)
+            {
+                parent.childNanos += nanos;
+                parent.childAllocatedBytes += allocatedBytes;
+            }
+
+            tracer.spans.add(this);
+        }
+
+        public String phase()
+        {
+            return phase;
+        }
+
+        public String type()
+        {
+            return type;
+        }
+
+        public long nanos()
+        {
+            return nanos;
+        }
+
+        public long selfNanos()
+        {
+            return Math.max(0, nanos - childNanos);
+        }
+
+        public long allocatedBytes()
+        {
+            return allocatedBytes;
+        }
+
+        public long selfAllocatedBytes()
+        {
+            return Math.max(0, allocatedBytes - childAllocatedBytes);
+        }
+    }
+
+    private static class Total
+    {
+        private int count;
+        private long nanos;
+        private long selfNanos;
+        private long bytes;
+
+        private void add(Span span)
+        {
+            count++;
+            nanos += span.nanos;
+            selfNanos += span.selfNanos();
+            bytes += span.selfAllocatedBytes();
+        }
+
+        @Override
+        public String toString()
+        {
+            return String.format("%8d %12.3f %12.3f %14.1f", count, nanos / 1000000.0, selfNanos / 1000000.0, bytes / 1024.0);
+        }
+    }
+}
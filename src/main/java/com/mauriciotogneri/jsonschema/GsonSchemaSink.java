@@ -0,0 +1,107 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+public class GsonSchemaSink implements SchemaSink
+{
+    private final Deque<JsonElement> containers = new ArrayDeque<>();
+    private JsonElement root;
+    private String name;
+
+    @Override
+    public SchemaSink beginObject()
+    {
+        JsonObject object = new JsonObject();
+        add(object);
+        containers.push(object);
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink endObject()
+    {
+        containers.pop();
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink beginArray()
+    {
+        JsonArray array = new JsonArray();
+        add(array);
+        containers.push(array);
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink endArray()
+    {
+        containers.pop();
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink name(String name)
+    {
+        this.name = name;
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink value(String value)
+    {
+        add(new JsonPrimitive(value));
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink value(Number value)
+    {
+        add(new JsonPrimitive(value));
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink value(boolean value)
+    {
+        add(new JsonPrimitive(value));
+
+        return this;
+    }
+
+    private void add(JsonElement element)
+    {
+        JsonElement parent = containers.peek();
+
+        if (parent == null)
+        {
+            root = element;
+        }
+        else if (parent.isJsonObject())
+        {
+            parent.getAsJsonObject().add(name, element);
+        }
+        else
+        {
+            parent.getAsJsonArray().add(element);
+        }
+    }
+
+    public JsonObject result()
+    {
+        return root.getAsJsonObject();
+    }
+}
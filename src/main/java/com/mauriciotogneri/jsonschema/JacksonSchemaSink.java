@@ -0,0 +1,130 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+public class JacksonSchemaSink implements SchemaSink
+{
+    private final JsonNodeFactory factory;
+    private final Deque<JsonNode> containers = new ArrayDeque<>();
+    private JsonNode root;
+    private String name;
+
+    public JacksonSchemaSink(JsonNodeFactory factory)
+    {
+        this.factory = factory;
+    }
+
+    public JacksonSchemaSink()
+    {
+        this(JsonNodeFactory.instance);
+    }
+
+    @Override
+    public SchemaSink beginObject()
+    {
+        ObjectNode object = factory.objectNode();
+        add(object);
+        containers.push(object);
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink endObject()
+    {
+        containers.pop();
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink beginArray()
+    {
+        ArrayNode array = factory.arrayNode();
+        add(array);
+        containers.push(array);
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink endArray()
+    {
+        containers.pop();
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink name(String name)
+    {
+        this.name = name;
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink value(String value)
+    {
+        add(factory.textNode(value));
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink value(Number value)
+    {
+        if ((value instanceof Integer) || (value instanceof Short) || (value instanceof Byte))
+        {
+            add(factory.numberNode(value.intValue()));
+        }
+        else if (value instanceof Long)
+        {
+            add(factory.numberNode(value.longValue()));
+        }
+        else
+        {
+            add(factory.numberNode(new BigDecimal(value.toString())));
+        }
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink value(boolean value)
+    {
+        add(factory.booleanNode(value));
+
+        return this;
+    }
+
+    private void add(JsonNode node)
+    {
+        JsonNode parent = containers.peek();
+
+        if (parent == null)
+        {
+            root = node;
+        }
+        else if (parent.isObject())
+        {
+            ((ObjectNode) parent).set(name, node);
+        }
+        else
+        {
+            ((ArrayNode) parent).add(node);
+        }
+    }
+
+    public ObjectNode result()
+    {
+        return (ObjectNode) root;
+    }
+}
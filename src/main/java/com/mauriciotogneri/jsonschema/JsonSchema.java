@@ -1,7 +1,19 @@
 package com.mauriciotogneri.jsonschema;
 
-import com.google.gson.JsonArray;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 public class JsonSchema
 {
@@ -17,29 +29,46 @@ public class JsonSchema
     private static final String TYPE_ARRAY = "array";
     private static final String TYPE_FILE = "file";
 
+    private static final int DEFINITIONS_PER_TASK = 16;
+
     public JsonSchema(TypeDefinition typeDefinition)
     {
-        this.typeDefinition = typeDefinition;
-        this.definitions = new Definitions(typeDefinition);
+        this(typeDefinition, new Definitions(typeDefinition));
     }
 
     public JsonSchema(Class<?> clazz)
     {
-        this(new TypeDefinition(clazz));
+        this(TypeDefinition.of(clazz));
+    }
+
+    JsonSchema(TypeDefinition typeDefinition, Definitions definitions)
+    {
+        this.typeDefinition = typeDefinition;
+        this.definitions = definitions;
     }
 
     public JsonObject schema()
+    {
+        GsonSchemaSink sink = new GsonSchemaSink();
+        build(sink);
+
+        return sink.result();
+    }
+
+    public ObjectNode schemaNode()
+    {
+        JacksonSchemaSink sink = new JacksonSchemaSink();
+        build(sink);
+
+        return sink.result();
+    }
+
+    public JsonObject schema(ForkJoinPool pool)
     {
         JsonObject root = schema(true);
         root.addProperty("$schema", "http://json-schema.org/schema#");
 
-        JsonObject defs = new JsonObject();
-
-        for (TypeDefinition definition : definitions)
-        {
-            JsonSchema schema = new JsonSchema(definition);
-            defs.add(definition.name(), schema.schema(false));
-        }
+        JsonObject defs = definitions(definitions, pool);
 
         if (defs.size() > 0)
         {
@@ -49,313 +78,420 @@ public class JsonSchema
         return root;
     }
 
-    private JsonObject schema(boolean useReferences)
+    public void schema(SchemaSink sink) throws IOException
+    {
+        GenerationTracer.Span span = GenerationTracer.begin(GenerationTracer.SCHEMA, typeDefinition.name());
+        sink.beginObject();
+        fill(true, sink);
+        sink.name("$schema").value("http://json-schema.org/schema#");
+        definitions(definitions, sink);
+        sink.endObject();
+        GenerationTracer.end(span);
+    }
+
+    public void write(OutputStream output) throws IOException
     {
-        JsonObject schema = new JsonObject();
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        write(writer);
+        writer.flush();
+    }
 
-        if (typeDefinition.isPrimitive())
+    public void write(Writer writer) throws IOException
+    {
+        JsonWriter jsonWriter = new JsonWriter(writer);
+        jsonWriter.setLenient(true);
+        write(jsonWriter);
+        jsonWriter.flush();
+    }
+
+    public void write(JsonWriter writer) throws IOException
+    {
+        schema(new StreamingSchemaSink(writer));
+    }
+
+    private void build(SchemaSink sink)
+    {
+        try
         {
-            fillPrimitive(schema, typeDefinition);
+            schema(sink);
         }
-        else if (typeDefinition.isArray())
+        catch (IOException e)
         {
-            fillArray(schema, typeDefinition);
+            throw new IllegalStateException(e);
         }
-        else
+    }
+
+    static void definitions(Definitions definitions, SchemaSink sink) throws IOException
+    {
+        if (definitions.size() > 0)
         {
-            if (useReferences)
-            {
-                fillReference(schema, typeDefinition);
-            }
-            else
+            sink.name("definitions");
+            sink.beginObject();
+
+            for (TypeDefinition definition : definitions)
             {
-                fillObject(schema, typeDefinition);
+                JsonSchema schema = new JsonSchema(definition, definitions);
+                sink.name(definition.name());
+                schema.schema(false, sink);
             }
-        }
 
-        return schema;
+            sink.endObject();
+        }
     }
 
-    private void fillObject(JsonObject json, TypeDefinition typeDefinition)
+    static JsonObject definitions(Definitions definitions, ForkJoinPool pool)
     {
-        json.addProperty("type", TYPE_OBJECT);
-        json.add("properties", properties(typeDefinition));
+        List<TypeDefinition> types = new ArrayList<>(definitions.size());
+
+        for (TypeDefinition definition : definitions)
+        {
+            types.add(definition);
+        }
 
-        JsonArray required = required();
+        JsonObject[] schemas = new JsonObject[types.size()];
+        pool.invoke(new DefinitionsTask(definitions, types, schemas, 0, schemas.length));
 
-        if (required.size() > 0)
+        JsonObject defs = new JsonObject();
+
+        for (int i = 0; i < schemas.length; i++)
         {
-            json.add("required", required);
+            defs.add(types.get(i).name(), schemas[i]);
         }
+
+        return defs;
     }
 
-    private JsonObject properties(TypeDefinition typeDefinition)
+    JsonObject schema(boolean useReferences)
     {
-        JsonObject properties = new JsonObject();
+        GsonSchemaSink sink = new GsonSchemaSink();
 
-        for (FieldDefinition field : typeDefinition.fields())
+        try
+        {
+            schema(useReferences, sink);
+        }
+        catch (IOException e)
         {
-            Annotations annotations = field.annotations();
+            throw new IllegalStateException(e);
+        }
 
-            String name = field.name();
+        return sink.result();
+    }
 
-            if (annotations.name() != null)
+    void schema(boolean useReferences, SchemaSink sink) throws IOException
+    {
+        sink.beginObject();
+        fill(useReferences, sink);
+        sink.endObject();
+    }
+
+    private void fill(boolean useReferences, SchemaSink sink) throws IOException
+    {
+        if (typeDefinition.isPrimitive())
+        {
+            fillPrimitive(sink, typeDefinition);
+        }
+        else if (typeDefinition.isArray())
+        {
+            fillArray(sink, typeDefinition);
+        }
+        else
+        {
+            if (useReferences)
             {
-                name = annotations.name();
+                fillReference(sink, typeDefinition);
+            }
+            else
+            {
+                fillObject(sink, typeDefinition);
             }
-
-            properties.add(name, property(field, annotations));
         }
-
-        return properties;
     }
 
-    private JsonObject property(FieldDefinition field, Annotations annotations)
+    private void fillObject(SchemaSink sink, TypeDefinition typeDefinition) throws IOException
     {
-        JsonObject json = new JsonObject();
+        GenerationTracer.Span span = GenerationTracer.begin(GenerationTracer.FILL_OBJECT, typeDefinition.name());
+        sink.name("type").value(TYPE_OBJECT);
+        sink.name("properties");
+        properties(sink, typeDefinition);
 
-        TypeDefinition[] allOf = annotations.allOf();
+        List<String> required = required();
 
-        if (allOf != null)
+        if (!required.isEmpty())
         {
-            fillMultipleTypes(json, "allOf", allOf);
+            sink.name("required");
+            sink.beginArray();
+
+            for (String name : required)
+            {
+                sink.value(name);
+            }
 
-            return json;
+            sink.endArray();
         }
 
-        TypeDefinition[] anyOf = annotations.anyOf();
+        GenerationTracer.end(span);
+    }
 
-        if (anyOf != null)
-        {
-            fillMultipleTypes(json, "anyOf", anyOf);
+    private void properties(SchemaSink sink, TypeDefinition typeDefinition) throws IOException
+    {
+        sink.beginObject();
 
-            return json;
-        }
+        for (FieldDefinition field : typeDefinition.cachedFields())
+        {
+            Constraints constraints = field.annotations().constraints();
 
-        TypeDefinition[] oneOf = annotations.oneOf();
+            String name = field.name();
 
-        if (oneOf != null)
-        {
-            fillMultipleTypes(json, "oneOf", oneOf);
+            if (constraints.has(Constraints.NAME))
+            {
+                name = constraints.name();
+            }
 
-            return json;
+            sink.name(name);
+            property(sink, field, constraints);
         }
 
-        TypeDefinition not = annotations.not();
+        sink.endObject();
+    }
 
-        if (not != null)
-        {
-            JsonSchema schema = new JsonSchema(typeDefinition);
-            json.add("not", schema.schema(true));
+    private void property(SchemaSink sink, FieldDefinition field, Constraints constraints) throws IOException
+    {
+        sink.beginObject();
 
-            return json;
+        if (constraints.has(Constraints.ALL_OF))
+        {
+            fillMultipleTypes(sink, "allOf", constraints.cachedAllOf());
         }
-
-        TypeDefinition typeDefinition = field.typeDefinition();
-
-        if (typeDefinition.isPrimitive())
+        else if (constraints.has(Constraints.ANY_OF))
         {
-            fillPrimitive(json, typeDefinition);
+            fillMultipleTypes(sink, "anyOf", constraints.cachedAnyOf());
         }
-        else if (typeDefinition.isArray())
+        else if (constraints.has(Constraints.ONE_OF))
         {
-            fillArray(json, typeDefinition);
+            fillMultipleTypes(sink, "oneOf", constraints.cachedOneOf());
         }
-        else
+        else if (constraints.has(Constraints.NOT))
         {
-            fillReference(json, typeDefinition);
+            JsonSchema schema = new JsonSchema(constraints.not(), definitions);
+            sink.name("not");
+            schema.schema(true, sink);
         }
+        else
+        {
+            TypeDefinition typeDefinition = field.typeDefinition();
+
+            if (typeDefinition.isPrimitive())
+            {
+                fillPrimitive(sink, typeDefinition);
+            }
+            else if (typeDefinition.isArray())
+            {
+                fillArray(sink, typeDefinition);
+            }
+            else
+            {
+                fillReference(sink, typeDefinition);
+            }
 
-        applyAnnotations(json, annotations);
+            applyAnnotations(sink, constraints);
+        }
 
-        return json;
+        sink.endObject();
     }
 
-    private void fillMultipleTypes(JsonObject json, String name, TypeDefinition[] typeDefinitions)
+    private void fillMultipleTypes(SchemaSink sink, String name, TypeDefinition[] typeDefinitions) throws IOException
     {
-        JsonArray types = new JsonArray();
+        sink.name(name);
+        sink.beginArray();
 
         for (TypeDefinition typeDefinition : typeDefinitions)
         {
-            JsonSchema schema = new JsonSchema(typeDefinition);
-            types.add(schema.schema(true));
+            JsonSchema schema = new JsonSchema(typeDefinition, definitions);
+            schema.schema(true, sink);
         }
 
-        json.add(name, types);
+        sink.endArray();
     }
 
-    private void fillPrimitive(JsonObject json, TypeDefinition typeDefinition)
+    private void fillPrimitive(SchemaSink sink, TypeDefinition typeDefinition) throws IOException
     {
         if (typeDefinition.isString())
         {
-            json.addProperty("type", TYPE_STRING);
+            sink.name("type").value(TYPE_STRING);
         }
         else if (typeDefinition.isBoolean())
         {
-            json.addProperty("type", TYPE_BOOLEAN);
+            sink.name("type").value(TYPE_BOOLEAN);
         }
         else if (typeDefinition.isInteger())
         {
-            json.addProperty("type", TYPE_INTEGER);
+            sink.name("type").value(TYPE_INTEGER);
         }
         else if (typeDefinition.isNumber())
         {
-            json.addProperty("type", TYPE_NUMBER);
+            sink.name("type").value(TYPE_NUMBER);
         }
         else if (typeDefinition.isDate())
         {
-            json.addProperty("type", TYPE_STRING);
-            json.addProperty("format", "date-time");
+            sink.name("type").value(TYPE_STRING);
+            sink.name("format").value("date-time");
         }
         else if (typeDefinition.isUri())
         {
-            json.addProperty("type", TYPE_STRING);
-            json.addProperty("format", "uri");
+            sink.name("type").value(TYPE_STRING);
+            sink.name("format").value("uri");
         }
         else if (typeDefinition.isFile())
         {
-            json.addProperty("type", TYPE_FILE);
+            sink.name("type").value(TYPE_FILE);
         }
         else if (typeDefinition.isNull())
         {
-            json.addProperty("type", TYPE_NULL);
+            sink.name("type").value(TYPE_NULL);
         }
         else if (typeDefinition.isEnum())
         {
             Object[] constants = typeDefinition.enums();
 
-            JsonArray values = new JsonArray();
+            sink.name("type").value(TYPE_STRING);
+            sink.name("enum");
+            sink.beginArray();
 
             for (Object constant : constants)
             {
-                values.add(constant.toString());
+                sink.value(((Enum<?>) constant).name());
             }
 
-            json.addProperty("type", TYPE_STRING);
-            json.add("enum", values);
+            sink.endArray();
         }
     }
 
-    private void fillArray(JsonObject json, TypeDefinition typeDefinition)
+    private void fillArray(SchemaSink sink, TypeDefinition typeDefinition) throws IOException
     {
-        json.addProperty("type", TYPE_ARRAY);
+        GenerationTracer.Span span = GenerationTracer.begin(GenerationTracer.FILL_ARRAY, typeDefinition.name());
+        sink.name("type").value(TYPE_ARRAY);
 
-        JsonSchema schema = new JsonSchema(typeDefinition.componentType());
-        json.add("items", schema.schema(true));
+        JsonSchema schema = new JsonSchema(typeDefinition.componentType(), definitions);
+        sink.name("items");
+        schema.schema(true, sink);
+        GenerationTracer.end(span);
     }
 
-    private void fillReference(JsonObject json, TypeDefinition typeDefinition)
+    private void fillReference(SchemaSink sink, TypeDefinition typeDefinition) throws IOException
     {
-        json.addProperty("$ref", String.format("#/definitions/%s", typeDefinition.name()));
+        sink.name("$ref").value(String.format("#/definitions/%s", typeDefinition.name()));
     }
 
-    private void applyAnnotations(JsonObject json, Annotations annotations)
+    private void applyAnnotations(SchemaSink sink, Constraints constraints) throws IOException
     {
-        if (annotations.description() != null)
+        GenerationTracer.Span span = GenerationTracer.begin(GenerationTracer.APPLY_ANNOTATIONS, typeDefinition.name());
+        int flags = constraints.flags();
+
+        if ((flags & Constraints.DESCRIPTION) != 0)
         {
-            json.addProperty("description", annotations.description());
+            sink.name("description").value(constraints.description());
         }
 
-        if (annotations.title() != null)
+        if ((flags & Constraints.TITLE) != 0)
         {
-            json.addProperty("title", annotations.title());
+            sink.name("title").value(constraints.title());
         }
 
-        if (annotations.defaultValue() != null)
+        if ((flags & Constraints.DEFAULT) != 0)
         {
-            json.addProperty("default", annotations.defaultValue());
+            sink.name("default").value(constraints.defaultValue());
         }
 
-        if (annotations.format() != null)
+        if ((flags & Constraints.FORMAT) != 0)
         {
-            json.addProperty("format", annotations.format());
+            sink.name("format").value(constraints.format());
         }
 
-        if (annotations.pattern() != null)
+        if ((flags & Constraints.PATTERN) != 0)
         {
-            json.addProperty("pattern", annotations.pattern());
+            sink.name("pattern").value(constraints.pattern());
         }
 
-        if (annotations.minimum() != null)
+        if ((flags & Constraints.MINIMUM) != 0)
         {
-            json.addProperty("minimum", annotations.minimum());
+            sink.name("minimum").value(constraints.minimum());
         }
 
-        if (annotations.maximum() != null)
+        if ((flags & Constraints.MAXIMUM) != 0)
         {
-            json.addProperty("maximum", annotations.maximum());
+            sink.name("maximum").value(constraints.maximum());
         }
 
-        if (annotations.multipleOf() != null)
+        if ((flags & Constraints.MULTIPLE_OF) != 0)
         {
-            json.addProperty("multipleOf", annotations.multipleOf());
+            sink.name("multipleOf").value(constraints.multipleOf());
         }
 
-        if (annotations.exclusiveMinimum() != null)
+        if ((flags & Constraints.EXCLUSIVE_MINIMUM) != 0)
         {
-            json.addProperty("exclusiveMinimum", annotations.exclusiveMinimum());
+            sink.name("exclusiveMinimum").value(constraints.exclusiveMinimum());
         }
 
-        if (annotations.exclusiveMaximum() != null)
+        if ((flags & Constraints.EXCLUSIVE_MAXIMUM) != 0)
         {
-            json.addProperty("exclusiveMaximum", annotations.exclusiveMaximum());
+            sink.name("exclusiveMaximum").value(constraints.exclusiveMaximum());
         }
 
-        if (annotations.uniqueItems() != null)
+        if ((flags & Constraints.UNIQUE_ITEMS) != 0)
         {
-            json.addProperty("uniqueItems", annotations.uniqueItems());
+            sink.name("uniqueItems").value(constraints.uniqueItems());
         }
 
-        if (annotations.additionalItems() != null)
+        if ((flags & Constraints.ADDITIONAL_ITEMS) != 0)
         {
-            json.addProperty("additionalItems", annotations.additionalItems());
+            sink.name("additionalItems").value(constraints.additionalItems());
         }
 
-        if (annotations.additionalProperties() != null)
+        if ((flags & Constraints.ADDITIONAL_PROPERTIES) != 0)
         {
-            json.addProperty("additionalProperties", annotations.additionalProperties());
+            sink.name("additionalProperties").value(constraints.additionalProperties());
         }
 
-        if (annotations.minProperties() != null)
+        if ((flags & Constraints.MIN_PROPERTIES) != 0)
         {
-            json.addProperty("minProperties", annotations.minProperties());
+            sink.name("minProperties").value(constraints.minProperties());
         }
 
-        if (annotations.maxProperties() != null)
+        if ((flags & Constraints.MAX_PROPERTIES) != 0)
         {
-            json.addProperty("maxProperties", annotations.maxProperties());
+            sink.name("maxProperties").value(constraints.maxProperties());
         }
 
-        if (annotations.minLength() != null)
+        if ((flags & Constraints.MIN_LENGTH) != 0)
         {
-            json.addProperty("minLength", annotations.minLength());
+            sink.name("minLength").value(constraints.minLength());
         }
 
-        if (annotations.maxLength() != null)
+        if ((flags & Constraints.MAX_LENGTH) != 0)
         {
-            json.addProperty("maxLength", annotations.maxLength());
+            sink.name("maxLength").value(constraints.maxLength());
         }
 
-        if (annotations.minItems() != null)
+        if ((flags & Constraints.MIN_ITEMS) != 0)
         {
-            json.addProperty("minItems", annotations.minItems());
+            sink.name("minItems").value(constraints.minItems());
         }
 
-        if (annotations.maxItems() != null)
+        if ((flags & Constraints.MAX_ITEMS) != 0)
         {
-            json.addProperty("maxItems", annotations.maxItems());
+            sink.name("maxItems").value(constraints.maxItems());
         }
+
+        GenerationTracer.end(span);
     }
 
-    private JsonArray required()
+    private List<String> required()
     {
-        JsonArray required = new JsonArray();
+        List<String> required = new ArrayList<>();
 
-        for (FieldDefinition field : typeDefinition.fields())
+        for (FieldDefinition field : typeDefinition.cachedFields())
         {
-            Annotations annotations = field.annotations();
-
-            if (!annotations.optional())
+            if (!field.annotations().constraints().has(Constraints.OPTIONAL))
             {
                 required.add(field.name());
             }
@@ -363,4 +499,43 @@ public class JsonSchema
 
         return required;
     }
-}
\ No newline at end of file
+
+    private static class DefinitionsTask extends RecursiveAction
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final Definitions definitions;
+        private final List<TypeDefinition> types;
+        private final JsonObject[] schemas;
+        private final int from;
+        private final int to;
+
+        private DefinitionsTask(Definitions definitions, List<TypeDefinition> types, JsonObject[] schemas, int from, int to)
+        {
+            this.definitions = definitions;
+            this.types = types;
+            this.schemas = schemas;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute()
+        {
+            if ((to - from) <= DEFINITIONS_PER_TASK)
+            {
+                for (int i = from; i < to; i++)
+                {
+                    JsonSchema schema = new JsonSchema(types.get(i), definitions);
+                    schemas[i] = schema.schema(false);
+                }
+            }
+            else
+            {
+                int middle = (from + to) >>> 1;
+
+                invokeAll(new DefinitionsTask(definitions, types, schemas, from, middle), new DefinitionsTask(definitions, types, schemas, middle, to));
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+
+final class JsonTrees
+{
+    private static final JsonNodeFactory FACTORY = JsonNodeFactory.instance;
+
+    private JsonTrees()
+    {
+    }
+
+    static JsonNode jackson(JsonElement element)
+    {
+        if (element.isJsonObject())
+        {
+            ObjectNode object = FACTORY.objectNode();
+
+            for (Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet())
+            {
+                object.set(entry.getKey(), jackson(entry.getValue()));
+            }
+
+            return object;
+        }
+        else if (element.isJsonArray())
+        {
+            JsonArray source = element.getAsJsonArray();
+            ArrayNode array = FACTORY.arrayNode();
+
+            for (JsonElement item : source)
+            {
+                array.add(jackson(item));
+            }
+
+            return array;
+        }
+        else if (element.isJsonNull())
+        {
+            return FACTORY.nullNode();
+        }
+
+        JsonPrimitive primitive = element.getAsJsonPrimitive();
+
+        if (primitive.isBoolean())
+        {
+            return FACTORY.booleanNode(primitive.getAsBoolean());
+        }
+        else if (primitive.isNumber())
+        {
+            return number(primitive.getAsString());
+        }
+
+        return FACTORY.textNode(primitive.getAsString());
+    }
+
+    private static JsonNode number(String text)
+    {
+        if ((text.indexOf('.') >= 0) || (text.indexOf('e') >= 0) || (text.indexOf('E') >= 0))
+        {
+            return FACTORY.numberNode(new BigDecimal(text));
+        }
+
+        BigInteger value = new BigInteger(text);
+
+        if (value.bitLength() < 32)
+        {
+            return FACTORY.numberNode(value.intValue());
+        }
+        else if (value.bitLength() < 64)
+        {
+            return FACTORY.numberNode(value.longValue());
+        }
+
+        return FACTORY.numberNode(value);
+    }
+
+    static byte[] digest(JsonNode node)
+    {
+        MessageDigest digest = sha256();
+        update(digest, node);
+
+        return digest.digest();
+    }
+
+    static MessageDigest sha256()
+    {
+        try
+        {
+            return MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void update(MessageDigest digest, JsonNode node)
+    {
+        if (node.isObject())
+        {
+            List<String> names = new ArrayList<>(node.size());
+            Iterator<String> iterator = node.fieldNames();
+
+            while (iterator.hasNext())
+            {
+                names.add(iterator.next());
+            }
+
+            Collections.sort(names);
+            digest.update((byte) '{');
+            length(digest, names.size());
+
+            for (String name : names)
+            {
+                text(digest, name);
+                update(digest, node.get(name));
+            }
+        }
+        else if (node.isArray())
+        {
+            digest.update((byte) '[');
+            length(digest, node.size());
+
+            for (JsonNode element : node)
+            {
+                update(digest, element);
+            }
+        }
+        else if (node.isIntegralNumber())
+        {
+            digest.update((byte) 'i');
+            text(digest, node.bigIntegerValue().toString());
+        }
+        else if (node.isNumber())
+        {
+            digest.update((byte) 'd');
+            text(digest, node.decimalValue().toString());
+        }
+        else if (node.isTextual())
+        {
+            digest.update((byte) 's');
+            text(digest, node.textValue());
+        }
+        else if (node.isBoolean())
+        {
+            digest.update((byte) (node.booleanValue() ? 't' : 'f'));
+        }
+        else if (node.isNull())
+        {
+            digest.update((byte) 'n');
+        }
+        else
+        {
+            digest.update((byte) 'x');
+            text(digest, node.toString());
+        }
+    }
+
+    private static void text(MessageDigest digest, String text)
+    {
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        length(digest, bytes.length);
+        digest.update(bytes);
+    }
+
+    private static void length(MessageDigest digest, int length)
+    {
+        digest.update((byte) (length >>> 24));
+        digest.update((byte) (length >>> 16));
+        digest.update((byte) (length >>> 8));
+        digest.update((byte) length);
+    }
+}
@@ -0,0 +1,279 @@
+package com.mauriciotogneri.jsonschema;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class LruCache<K, V>
+{
+    private final long maximumWeight;
+    private final Weigher<? super K, ? super V> weigher;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight = 0;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong loads = new AtomicLong();
+    private final AtomicLong loadFailures = new AtomicLong();
+    private final AtomicLong loadTime = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public interface Weigher<K, V>
+    {
+        long weigh(K key, V value);
+    }
+
+    public LruCache(int maximumSize)
+    {
+        this(maximumSize, new Weigher<Object, Object>()
+        {
+            @Override
+            public long weigh(Object key, Object value)
+            {
+                return 1;
+            }
+        });
+    }
+
+    public LruCache(long maximumWeight, Weigher<? super K, ? super V> weigher)
+    {
+        if (maximumWeight <= 0)
+        {
+            throw new IllegalArgumentException("maximum weight must be greater than 0");
+        }
+
+        this.maximumWeight = maximumWeight;
+        this.weigher = weigher;
+    }
+
+    public V get(K key, Callable<V> loader) throws ExecutionException
+    {
+        Entry<V> entry;
+        boolean owner = false;
+
+        synchronized (this)
+        {
+            entry = entries.get(key);
+
+            if (entry == null)
+            {
+                entry = new Entry<>(new FutureTask<V>(loader));
+                entries.put(key, entry);
+                owner = true;
+            }
+        }
+
+        if (owner)
+        {
+            misses.incrementAndGet();
+            load(key, entry);
+        }
+        else
+        {
+            hits.incrementAndGet();
+        }
+
+        try
+        {
+            return entry.future.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new ExecutionException(e);
+        }
+    }
+
+    private void load(K key, Entry<V> entry)
+    {
+        long start = System.nanoTime();
+        entry.future.run();
+        loadTime.addAndGet(System.nanoTime() - start);
+
+        try
+        {
+            V value = entry.future.get();
+            loads.incrementAndGet();
+
+            synchronized (this)
+            {
+                if (entries.get(key) == entry)
+                {
+                    entry.weight = weigher.weigh(key, value);
+                    weight += entry.weight;
+                    evict();
+                }
+            }
+        }
+        catch (InterruptedException | ExecutionException e)
+        {
+            loadFailures.incrementAndGet();
+
+            synchronized (this)
+            {
+                if (entries.get(key) == entry)
+                {
+                    entries.remove(key);
+                }
+            }
+        }
+    }
+
+    private void evict()
+    {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+
+        while ((weight > maximumWeight) && iterator.hasNext())
+        {
+            Entry<V> entry = iterator.next().getValue();
+
+            if (entry.future.isDone())
+            {
+                iterator.remove();
+                weight -= entry.weight;
+                evictions.incrementAndGet();
+            }
+        }
+    }
+
+    public V getIfPresent(K key)
+    {
+        Entry<V> entry;
+
+        synchronized (this)
+        {
+            entry = entries.get(key);
+        }
+
+        if ((entry != null) && entry.future.isDone())
+        {
+            try
+            {
+                V value = entry.future.get();
+                hits.incrementAndGet();
+
+                return value;
+            }
+            catch (InterruptedException | ExecutionException e)
+            {
+                return null;
+            }
+        }
+
+        misses.incrementAndGet();
+
+        return null;
+    }
+
+    public void put(K key, final V value)
+    {
+        FutureTask<V> future = new FutureTask<>(new Callable<V>()
+        {
+            @Override
+            public V call()
+            {
+                return value;
+            }
+        });
+
+        future.run();
+
+        Entry<V> entry = new Entry<>(future);
+        entry.weight = weigher.weigh(key, value);
+
+        synchronized (this)
+        {
+            Entry<V> previous = entries.put(key, entry);
+
+            if (previous != null)
+            {
+                weight -= previous.weight;
+            }
+
+            weight += entry.weight;
+            evict();
+        }
+    }
+
+    public synchronized void invalidate(K key)
+    {
+        Entry<V> entry = entries.remove(key);
+
+        if (entry != null)
+        {
+            weight -= entry.weight;
+        }
+    }
+
+    public synchronized void invalidateAll()
+    {
+        entries.clear();
+        weight = 0;
+    }
+
+    public synchronized int size()
+    {
+        return entries.size();
+    }
+
+    public synchronized long weight()
+    {
+        return weight;
+    }
+
+    public long hits()
+    {
+        return hits.get();
+    }
+
+    public long misses()
+    {
+        return misses.get();
+    }
+
+    public double hitRate()
+    {
+        long hits = this.hits.get();
+        long requests = hits + misses.get();
+
+        return (requests > 0) ? (double) hits / requests : 0;
+    }
+
+    public long loads()
+    {
+        return loads.get();
+    }
+
+    public long loadFailures()
+    {
+        return loadFailures.get();
+    }
+
+    public long averageLoadNanos()
+    {
+        long count = loads.get() + loadFailures.get();
+
+        return (count > 0) ? loadTime.get() / count : 0;
+    }
+
+    public long evictions()
+    {
+        return evictions.get();
+    }
+
+    private static class Entry<V>
+    {
+        private final FutureTask<V> future;
+        private long weight = 0;
+
+        private Entry(FutureTask<V> future)
+        {
+            this.future = future;
+        }
+    }
+}
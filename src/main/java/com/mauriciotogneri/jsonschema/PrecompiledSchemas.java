@@ -0,0 +1,89 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+
+public class PrecompiledSchemas
+{
+    public static final String DIRECTORY = "META-INF/jsonschema/";
+    public static final String INDEX_FILE = "index";
+    public static final String INDEX = DIRECTORY + INDEX_FILE;
+
+    private PrecompiledSchemas()
+    {
+    }
+
+    public static String file(String className)
+    {
+        return className + ".json";
+    }
+
+    public static String resource(String className)
+    {
+        return DIRECTORY + file(className);
+    }
+
+    public static JsonObject schema(Class<?> clazz)
+    {
+        ClassLoader classLoader = clazz.getClassLoader();
+
+        if (classLoader == null)
+        {
+            return null;
+        }
+
+        try (InputStream input = classLoader.getResourceAsStream(resource(clazz.getName())))
+        {
+            if (input == null)
+            {
+                return null;
+            }
+
+            try (Reader reader = new InputStreamReader(input, StandardCharsets.UTF_8))
+            {
+                return new JsonParser().parse(reader).getAsJsonObject();
+            }
+        }
+        catch (IOException e)
+        {
+            return null;
+        }
+    }
+
+    public static List<String> index(ClassLoader classLoader) throws IOException
+    {
+        List<String> result = new ArrayList<>();
+        Enumeration<URL> indexes = classLoader.getResources(INDEX);
+
+        while (indexes.hasMoreElements())
+        {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(indexes.nextElement().openStream(), StandardCharsets.UTF_8)))
+            {
+                String line;
+
+                while ((line = reader.readLine()) != null)
+                {
+                    line = line.trim();
+
+                    if (!line.isEmpty() && !result.contains(line))
+                    {
+                        result.add(line);
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,159 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+public class SchemaBundle
+{
+    private final Definitions definitions;
+    private final Map<String, TypeDefinition> roots;
+
+    public SchemaBundle()
+    {
+        this.definitions = new Definitions();
+        this.roots = new LinkedHashMap<>();
+    }
+
+    public SchemaBundle add(Class<?> clazz)
+    {
+        return add(TypeDefinition.of(clazz));
+    }
+
+    public SchemaBundle add(TypeDefinition typeDefinition)
+    {
+        if (!roots.containsKey(typeDefinition.name()))
+        {
+            roots.put(typeDefinition.name(), typeDefinition);
+            definitions.addType(typeDefinition);
+        }
+
+        return this;
+    }
+
+    public SchemaBundle addAll(Iterable<? extends Class<?>> classes)
+    {
+        for (Class<?> clazz : classes)
+        {
+            add(clazz);
+        }
+
+        return this;
+    }
+
+    public List<TypeDefinition> roots()
+    {
+        return Collections.unmodifiableList(new ArrayList<>(roots.values()));
+    }
+
+    public Definitions definitions()
+    {
+        return definitions;
+    }
+
+    public static String pointer(TypeDefinition typeDefinition)
+    {
+        return String.format("#/roots/%s", typeDefinition.name());
+    }
+
+    public static String pointer(Class<?> clazz)
+    {
+        return pointer(TypeDefinition.of(clazz));
+    }
+
+    public JsonObject schema()
+    {
+        GsonSchemaSink sink = new GsonSchemaSink();
+
+        try
+        {
+            schema(sink);
+        }
+        catch (IOException e)
+        {
+            throw new IllegalStateException(e);
+        }
+
+        return sink.result();
+    }
+
+    public JsonObject schema(ForkJoinPool pool)
+    {
+        JsonObject bundle = new JsonObject();
+        bundle.addProperty("$schema", "http://json-schema.org/schema#");
+        bundle.add("roots", entries());
+
+        JsonObject defs = JsonSchema.definitions(definitions, pool);
+
+        if (defs.size() > 0)
+        {
+            bundle.add("definitions", defs);
+        }
+
+        return bundle;
+    }
+
+    public void schema(SchemaSink sink) throws IOException
+    {
+        sink.beginObject();
+        sink.name("$schema").value("http://json-schema.org/schema#");
+        sink.name("roots");
+        sink.beginObject();
+
+        for (TypeDefinition root : roots.values())
+        {
+            JsonSchema schema = new JsonSchema(root, definitions);
+            sink.name(root.name());
+            schema.schema(true, sink);
+        }
+
+        sink.endObject();
+        JsonSchema.definitions(definitions, sink);
+        sink.endObject();
+    }
+
+    public void write(OutputStream output) throws IOException
+    {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        write(writer);
+        writer.flush();
+    }
+
+    public void write(Writer writer) throws IOException
+    {
+        JsonWriter jsonWriter = new JsonWriter(writer);
+        jsonWriter.setLenient(true);
+        write(jsonWriter);
+        jsonWriter.flush();
+    }
+
+    public void write(JsonWriter writer) throws IOException
+    {
+        schema(new StreamingSchemaSink(writer));
+    }
+
+    private JsonObject entries()
+    {
+        JsonObject entries = new JsonObject();
+
+        for (TypeDefinition root : roots.values())
+        {
+            JsonSchema schema = new JsonSchema(root, definitions);
+            entries.add(root.name(), schema.schema(true));
+        }
+
+        return entries;
+    }
+}
@@ -0,0 +1,106 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.google.gson.JsonObject;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SchemaCache
+{
+    private static final AtomicLong HITS = new AtomicLong();
+    private static final AtomicLong MISSES = new AtomicLong();
+    private static final AtomicLong GENERATION = new AtomicLong();
+
+    private static final ClassValue<AtomicBoolean> INVALIDATED = new ClassValue<AtomicBoolean>()
+    {
+        @Override
+        protected AtomicBoolean computeValue(Class<?> clazz)
+        {
+            return new AtomicBoolean();
+        }
+    };
+
+    private static final ClassValue<CachedSchema> SCHEMAS = new ClassValue<CachedSchema>()
+    {
+        @Override
+        protected CachedSchema computeValue(Class<?> clazz)
+        {
+            long generation = GENERATION.get();
+            JsonObject schema = INVALIDATED.get(clazz).get() ? null : PrecompiledSchemas.schema(clazz);
+
+            return new CachedSchema((schema != null) ? schema : new JsonSchema(clazz).schema(), generation);
+        }
+    };
+
+    private SchemaCache()
+    {
+    }
+
+    public static JsonObject schema(Class<?> clazz)
+    {
+        return entry(clazz).schema().deepCopy();
+    }
+
+    static JsonObject shared(Class<?> clazz)
+    {
+        return entry(clazz).schema();
+    }
+
+    public static SerializedSchema serialized(Class<?> clazz)
+    {
+        return entry(clazz).serialized();
+    }
+
+    private static CachedSchema entry(Class<?> clazz)
+    {
+        CachedSchema entry = SCHEMAS.get(clazz);
+
+        while (entry.generation() != GENERATION.get())
+        {
+            SCHEMAS.remove(clazz);
+            entry = SCHEMAS.get(clazz);
+        }
+
+        if (entry.claim())
+        {
+            MISSES.incrementAndGet();
+        }
+        else
+        {
+            HITS.incrementAndGet();
+        }
+
+        return entry;
+    }
+
+    public static void invalidate(Class<?> clazz)
+    {
+        INVALIDATED.get(clazz).set(true);
+        TypeDefinition.of(clazz).refresh();
+        GENERATION.incrementAndGet();
+        SCHEMAS.remove(clazz);
+    }
+
+    static long generation()
+    {
+        return GENERATION.get();
+    }
+
+    public static long hits()
+    {
+        return HITS.get();
+    }
+
+    public static long misses()
+    {
+        return MISSES.get();
+    }
+
+    public static double hitRate()
+    {
+        long hits = HITS.get();
+        long requests = hits + MISSES.get();
+
+        return (requests > 0) ? (double) hits / requests : 0;
+    }
+}
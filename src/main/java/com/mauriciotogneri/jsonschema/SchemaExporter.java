@@ -0,0 +1,641 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.mauriciotogneri.jsonschema.annotations.GenerateSchema;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.CodeSource;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+public class SchemaExporter
+{
+    private final Path outputDirectory;
+    private final Path manifest;
+    private final ClassLoader classLoader;
+
+    public static final String MANIFEST = "manifest";
+
+    private static final String MANIFEST_HEADER = "# jsonschema manifest 1";
+    private static final String CLASS_EXTENSION = ".class";
+    private static final String UNKNOWN = "";
+    private static final String LIBRARY_PATH = SchemaExporter.class.getPackage().getName().replace('.', '/');
+
+    public SchemaExporter(Path outputDirectory)
+    {
+        this(outputDirectory, Thread.currentThread().getContextClassLoader());
+    }
+
+    public SchemaExporter(Path outputDirectory, ClassLoader classLoader)
+    {
+        this(outputDirectory, outputDirectory.resolve(MANIFEST), classLoader);
+    }
+
+    public SchemaExporter(Path outputDirectory, Path manifest, ClassLoader classLoader)
+    {
+        this.outputDirectory = outputDirectory;
+        this.manifest = manifest;
+        this.classLoader = classLoader;
+    }
+
+    public ExportReport export(String... packages) throws IOException
+    {
+        ForkJoinPool pool = new ForkJoinPool();
+
+        try
+        {
+            return export(scan(pool, packages), pool);
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    public ExportReport export(Collection<Class<?>> classes) throws IOException
+    {
+        ForkJoinPool pool = new ForkJoinPool();
+
+        try
+        {
+            return export(classes, pool);
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    public ExportReport export(Collection<Class<?>> classes, ForkJoinPool pool) throws IOException
+    {
+        long start = System.nanoTime();
+
+        Files.createDirectories(outputDirectory);
+
+        final Map<String, String> previous = readManifest();
+        final String library = libraryHash();
+        final ConcurrentMap<Class<?>, String> hashes = new ConcurrentHashMap<>();
+        List<Callable<Export>> tasks = new ArrayList<>(classes.size());
+
+        for (final Class<?> clazz : classes)
+        {
+            tasks.add(new Callable<Export>()
+            {
+                @Override
+                public Export call()
+                {
+                    return export(clazz, previous.get(clazz.getName()), library, hashes);
+                }
+            });
+        }
+
+        Map<String, String> current = new TreeMap<>();
+        List<String> generated = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
+        List<String> removed = new ArrayList<>();
+        Map<String, Throwable> failures = new LinkedHashMap<>();
+
+        for (Export export : invokeAll(pool, tasks))
+        {
+            if (export.failure != null)
+            {
+                failures.put(export.className, export.failure);
+            }
+            else
+            {
+                (export.generated ? generated : skipped).add(export.className);
+
+                if (export.fingerprint != null)
+                {
+                    current.put(export.className, export.fingerprint);
+                }
+            }
+        }
+
+        Set<String> exported = new TreeSet<>(generated);
+        exported.addAll(skipped);
+
+        for (String className : previous.keySet())
+        {
+            if (!exported.contains(className) && !failures.containsKey(className))
+            {
+                Files.deleteIfExists(outputDirectory.resolve(PrecompiledSchemas.file(className)));
+                removed.add(className);
+            }
+        }
+
+        writeIndex(exported);
+        writeManifest(current);
+
+        return new ExportReport(generated, skipped, removed, failures, System.nanoTime() - start);
+    }
+
+    public List<Class<?>> scan(String... packages) throws IOException
+    {
+        ForkJoinPool pool = new ForkJoinPool();
+
+        try
+        {
+            return scan(pool, packages);
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+
+    public List<Class<?>> scan(ForkJoinPool pool, String... packages) throws IOException
+    {
+        Set<String> classNames = new TreeSet<>();
+
+        for (String packageName : packages)
+        {
+            String path = packageName.replace('.', '/');
+            Enumeration<URL> roots = classLoader.getResources(path);
+
+            while (roots.hasMoreElements())
+            {
+                URL root = roots.nextElement();
+
+                if ("file".equals(root.getProtocol()))
+                {
+                    scanDirectory(root, packageName, classNames);
+                }
+                else if ("jar".equals(root.getProtocol()))
+                {
+                    scanJar(root, path, classNames);
+                }
+            }
+        }
+
+        List<Callable<Class<?>>> tasks = new ArrayList<>(classNames.size());
+
+        for (final String className : classNames)
+        {
+            tasks.add(new Callable<Class<?>>()
+            {
+                @Override
+                public Class<?> call()
+                {
+                    return annotatedClass(className);
+                }
+            });
+        }
+
+        List<Class<?>> result = new ArrayList<>();
+
+        for (Class<?> clazz : invokeAll(pool, tasks))
+        {
+            if (clazz != null)
+            {
+                result.add(clazz);
+            }
+        }
+
+        return result;
+    }
+
+    private void scanDirectory(URL root, String packageName, final Set<String> classNames) throws IOException
+    {
+        final Path directory;
+
+        try
+        {
+            directory = Paths.get(root.toURI());
+        }
+        catch (URISyntaxException e)
+        {
+            throw new IOException(e);
+        }
+
+        final String prefix = packageName.isEmpty() ? "" : packageName + ".";
+
+        Files.walkFileTree(directory, new SimpleFileVisitor<Path>()
+        {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes)
+            {
+                String relative = directory.relativize(file).toString().replace(file.getFileSystem().getSeparator(), ".");
+                addClassName(prefix + relative, classNames);
+
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private void scanJar(URL root, String path, Set<String> classNames) throws IOException
+    {
+        JarURLConnection connection = (JarURLConnection) root.openConnection();
+        connection.setUseCaches(false);
+
+        try (JarFile jar = connection.getJarFile())
+        {
+            String prefix = path.isEmpty() ? "" : path + "/";
+            Enumeration<JarEntry> entries = jar.entries();
+
+            while (entries.hasMoreElements())
+            {
+                String name = entries.nextElement().getName();
+
+                if (name.startsWith(prefix))
+                {
+                    addClassName(name.replace('/', '.'), classNames);
+                }
+            }
+        }
+    }
+
+    private void addClassName(String fileName, Set<String> classNames)
+    {
+        if (fileName.endsWith(CLASS_EXTENSION) && !fileName.endsWith("package-info.class") && !fileName.endsWith("module-info.class"))
+        {
+            classNames.add(fileName.substring(0, fileName.length() - CLASS_EXTENSION.length()));
+        }
+    }
+
+    private Class<?> annotatedClass(String className)
+    {
+        try
+        {
+            Class<?> clazz = Class.forName(className, false, classLoader);
+
+            return clazz.isAnnotationPresent(GenerateSchema.class) ? clazz : null;
+        }
+        catch (ClassNotFoundException | LinkageError e)
+        {
+            return null;
+        }
+    }
+
+    private Export export(Class<?> clazz, String previousFingerprint, String library, ConcurrentMap<Class<?>, String> hashes)
+    {
+        String className = clazz.getName();
+
+        try
+        {
+            String fingerprint = fingerprint(clazz, library, hashes);
+            Path target = outputDirectory.resolve(PrecompiledSchemas.file(className));
+
+            if ((fingerprint != null) && fingerprint.equals(previousFingerprint) && Files.exists(target))
+            {
+                return new Export(className, fingerprint, false, null);
+            }
+
+            write(new JsonSchema(clazz), target);
+
+            return new Export(className, fingerprint, true, null);
+        }
+        catch (IOException | RuntimeException | LinkageError e)
+        {
+            return new Export(className, null, false, e);
+        }
+    }
+
+    private String fingerprint(Class<?> clazz, String library, ConcurrentMap<Class<?>, String> hashes) throws IOException
+    {
+        if (library.equals(UNKNOWN))
+        {
+            return null;
+        }
+
+        StringBuilder builder = new StringBuilder();
+        builder.append("library ").append(library).append('\n');
+
+        for (Class<?> dependency : dependencies(clazz))
+        {
+            String hash = classHash(dependency, hashes);
+
+            if (hash.equals(UNKNOWN))
+            {
+                return null;
+            }
+
+            builder.append(dependency.getName()).append(' ').append(hash).append('\n');
+        }
+
+        return SchemaRegistry.hash(builder.toString());
+    }
+
+    private Collection<Class<?>> dependencies(Class<?> clazz)
+    {
+        Map<String, Class<?>> dependencies = new TreeMap<>();
+        addDependency(clazz, dependencies);
+
+        for (TypeDefinition definition : new Definitions(TypeDefinition.of(clazz)))
+        {
+            addDependency(definition.type(), dependencies);
+
+            for (FieldDefinition field : definition.cachedFields())
+            {
+                addDependency(field.typeDefinition().type(), dependencies);
+
+                Constraints constraints = field.annotations().constraints();
+                addDependencies(constraints.cachedAllOf(), dependencies);
+                addDependencies(constraints.cachedAnyOf(), dependencies);
+                addDependencies(constraints.cachedOneOf(), dependencies);
+
+                if (constraints.has(Constraints.NOT))
+                {
+                    addDependency(constraints.not().type(), dependencies);
+                }
+            }
+        }
+
+        return dependencies.values();
+    }
+
+    private void addDependencies(TypeDefinition[] typeDefinitions, Map<String, Class<?>> dependencies)
+    {
+        if (typeDefinitions != null)
+        {
+            for (TypeDefinition typeDefinition : typeDefinitions)
+            {
+                addDependency(typeDefinition.type(), dependencies);
+            }
+        }
+    }
+
+    private void addDependency(Class<?> clazz, Map<String, Class<?>> dependencies)
+    {
+        while (clazz.isArray())
+        {
+            clazz = clazz.getComponentType();
+        }
+
+        if ((clazz.getClassLoader() != null) && !dependencies.containsKey(clazz.getName()))
+        {
+            dependencies.put(clazz.getName(), clazz);
+
+            if (clazz.getSuperclass() != null)
+            {
+                addDependency(clazz.getSuperclass(), dependencies);
+            }
+
+            for (Class<?> superinterface : clazz.getInterfaces())
+            {
+                addDependency(superinterface, dependencies);
+            }
+        }
+    }
+
+    private String classHash(Class<?> clazz, ConcurrentMap<Class<?>, String> hashes) throws IOException
+    {
+        String hash = hashes.get(clazz);
+
+        if (hash == null)
+        {
+            String resource = clazz.getName().replace('.', '/') + CLASS_EXTENSION;
+
+            try (InputStream input = clazz.getClassLoader().getResourceAsStream(resource))
+            {
+                hash = (input != null) ? SchemaRegistry.hash(read(input)) : UNKNOWN;
+            }
+
+            hashes.put(clazz, hash);
+        }
+
+        return hash;
+    }
+
+    private static String libraryHash() throws IOException
+    {
+        CodeSource source = SchemaExporter.class.getProtectionDomain().getCodeSource();
+
+        if ((source == null) || (source.getLocation() == null))
+        {
+            return UNKNOWN;
+        }
+
+        Path location;
+
+        try
+        {
+            location = Paths.get(source.getLocation().toURI());
+        }
+        catch (URISyntaxException | IllegalArgumentException e)
+        {
+            return UNKNOWN;
+        }
+
+        if (!Files.isDirectory(location))
+        {
+            return SchemaRegistry.hash(Files.readAllBytes(location));
+        }
+
+        final Path root = location.resolve(LIBRARY_PATH);
+        final Map<String, String> classes = new TreeMap<>();
+
+        Files.walkFileTree(root, new SimpleFileVisitor<Path>()
+        {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) throws IOException
+            {
+                String relative = root.relativize(file).toString().replace(file.getFileSystem().getSeparator(), "/");
+
+                if (relative.endsWith(CLASS_EXTENSION))
+                {
+                    classes.put(relative, SchemaRegistry.hash(Files.readAllBytes(file)));
+                }
+
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        StringBuilder builder = new StringBuilder();
+
+        for (Map.Entry<String, String> entry : classes.entrySet())
+        {
+            builder.append(entry.getKey()).append(' ').append(entry.getValue()).append('\n');
+        }
+
+        return SchemaRegistry.hash(builder.toString());
+    }
+
+    private static byte[] read(InputStream input) throws IOException
+    {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+
+        while ((read = input.read(buffer)) != -1)
+        {
+            output.write(buffer, 0, read);
+        }
+
+        return output.toByteArray();
+    }
+
+    private void write(JsonSchema schema, Path target) throws IOException
+    {
+        Path temporary = Files.createTempFile(outputDirectory, ".schema", ".tmp");
+
+        try
+        {
+            try (OutputStream output = Files.newOutputStream(temporary))
+            {
+                schema.write(output);
+            }
+
+            move(temporary, target);
+        }
+        finally
+        {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void writeIndex(Set<String> classNames) throws IOException
+    {
+        writeLines(outputDirectory.resolve(PrecompiledSchemas.INDEX_FILE), new ArrayList<>(classNames));
+    }
+
+    private void writeManifest(Map<String, String> fingerprints) throws IOException
+    {
+        List<String> lines = new ArrayList<>(fingerprints.size() + 1);
+        lines.add(MANIFEST_HEADER);
+
+        for (Map.Entry<String, String> entry : fingerprints.entrySet())
+        {
+            lines.add(entry.getKey() + " " + entry.getValue());
+        }
+
+        Files.createDirectories(manifest.toAbsolutePath().getParent());
+        writeLines(manifest, lines);
+    }
+
+    private Map<String, String> readManifest() throws IOException
+    {
+        Map<String, String> result = new TreeMap<>();
+
+        if (Files.exists(manifest))
+        {
+            try (BufferedReader reader = Files.newBufferedReader(manifest, StandardCharsets.UTF_8))
+            {
+                if (MANIFEST_HEADER.equals(reader.readLine()))
+                {
+                    String line;
+
+                    while ((line = reader.readLine()) != null)
+                    {
+                        int separator = line.indexOf(' ');
+
+                        if (separator > 0)
+                        {
+                            result.put(line.substring(0, separator), line.substring(separator + 1));
+                        }
+                    }
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private static void writeLines(Path target, List<String> lines) throws IOException
+    {
+        Path temporary = Files.createTempFile(target.toAbsolutePath().getParent(), ".schema", ".tmp");
+
+        try
+        {
+            try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8))
+            {
+                for (String line : lines)
+                {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+
+            move(temporary, target);
+        }
+        finally
+        {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException
+    {
+        try
+        {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+        catch (AtomicMoveNotSupportedException e)
+        {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static <T> List<T> invokeAll(ForkJoinPool pool, List<Callable<T>> tasks) throws IOException
+    {
+        List<T> result = new ArrayList<>(tasks.size());
+
+        try
+        {
+            for (Future<T> future : pool.invokeAll(tasks))
+            {
+                result.add(future.get());
+            }
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new InterruptedIOException();
+        }
+        catch (ExecutionException e)
+        {
+            throw new IOException(e.getCause());
+        }
+
+        return result;
+    }
+
+    private static class Export
+    {
+        private final String className;
+        private final String fingerprint;
+        private final boolean generated;
+        private final Throwable failure;
+
+        private Export(String className, String fingerprint, boolean generated, Throwable failure)
+        {
+            this.className = className;
+            this.fingerprint = fingerprint;
+            this.generated = generated;
+            this.failure = failure;
+        }
+    }
+}
@@ -0,0 +1,544 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SchemaOptimizer
+{
+    private final boolean stripDocumentation;
+
+    public static final String SHARED_PREFIX = "shared-";
+
+    private static final String DEFINITIONS = "definitions";
+    private static final String ROOTS = "roots";
+    private static final String REFERENCE = "$ref";
+    private static final String ALL_OF = "allOf";
+
+    private static final String[] DOCUMENTATION = {"title", "description"};
+    private static final String[] ANNOTATIONS = {"title", "description", "default"};
+    private static final String[] SCHEMA_MAPS = {"properties", "patternProperties", "dependencies"};
+    private static final String[] SCHEMA_ARRAYS = {"allOf", "anyOf", "oneOf", "items"};
+    private static final String[] SCHEMA_VALUES = {"items", "not", "additionalItems", "additionalProperties"};
+
+    private static final int HASH_LENGTH = 12;
+    private static final int NAME_LENGTH = SHARED_PREFIX.length() + HASH_LENGTH;
+    private static final int REFERENCE_LENGTH = "{\"$ref\":\"#/definitions/\"}".length() + NAME_LENGTH;
+    private static final int DEFINITION_LENGTH = "\"\":{},".length() + NAME_LENGTH;
+    private static final int ALL_OF_LENGTH = "\"allOf\":[],".length();
+
+    public SchemaOptimizer()
+    {
+        this(false);
+    }
+
+    public SchemaOptimizer(boolean stripDocumentation)
+    {
+        this.stripDocumentation = stripDocumentation;
+    }
+
+    public static SchemaOptimizer runtime()
+    {
+        return new SchemaOptimizer(true);
+    }
+
+    public JsonObject optimize(JsonObject schema)
+    {
+        JsonObject root = schema.deepCopy();
+
+        if (stripDocumentation)
+        {
+            strip(root, true);
+        }
+
+        return new Optimization().run(root);
+    }
+
+    private static void strip(JsonObject schema, boolean root)
+    {
+        for (String keyword : DOCUMENTATION)
+        {
+            schema.remove(keyword);
+        }
+
+        for (Slot slot : slots(schema, root))
+        {
+            strip(slot.get(), false);
+        }
+    }
+
+    private static List<Slot> slots(JsonObject schema, boolean root)
+    {
+        List<Slot> slots = new ArrayList<>();
+
+        addMap(slots, schema, DEFINITIONS, true);
+
+        if (root)
+        {
+            addMap(slots, schema, ROOTS, true);
+        }
+
+        for (String keyword : SCHEMA_MAPS)
+        {
+            addMap(slots, schema, keyword, false);
+        }
+
+        for (String keyword : SCHEMA_VALUES)
+        {
+            if (isObject(schema.get(keyword)))
+            {
+                slots.add(new Slot(schema, keyword, false));
+            }
+        }
+
+        for (String keyword : SCHEMA_ARRAYS)
+        {
+            JsonElement element = schema.get(keyword);
+
+            if ((element != null) && element.isJsonArray())
+            {
+                JsonArray array = element.getAsJsonArray();
+
+                for (int i = 0; i < array.size(); i++)
+                {
+                    if (isObject(array.get(i)))
+                    {
+                        slots.add(new Slot(array, i));
+                    }
+                }
+            }
+        }
+
+        return slots;
+    }
+
+    private static void addMap(List<Slot> slots, JsonObject schema, String keyword, boolean named)
+    {
+        JsonElement element = schema.get(keyword);
+
+        if (isObject(element))
+        {
+            JsonObject map = element.getAsJsonObject();
+
+            for (Map.Entry<String, JsonElement> entry : map.entrySet())
+            {
+                if (isObject(entry.getValue()))
+                {
+                    slots.add(new Slot(map, entry.getKey(), named));
+                }
+            }
+        }
+    }
+
+    private static boolean isObject(JsonElement element)
+    {
+        return (element != null) && element.isJsonObject();
+    }
+
+    private static boolean isAnnotation(String keyword)
+    {
+        for (String annotation : ANNOTATIONS)
+        {
+            if (annotation.equals(keyword))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isDecorated(JsonObject schema)
+    {
+        for (String annotation : ANNOTATIONS)
+        {
+            if (schema.has(annotation))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static JsonObject core(JsonObject schema)
+    {
+        JsonObject core = new JsonObject();
+
+        for (Map.Entry<String, JsonElement> entry : schema.entrySet())
+        {
+            if (!isAnnotation(entry.getKey()))
+            {
+                core.add(entry.getKey(), entry.getValue().deepCopy());
+            }
+        }
+
+        return core;
+    }
+
+    private static JsonObject reference(JsonObject schema, String name)
+    {
+        JsonObject reference = new JsonObject();
+        reference.addProperty(REFERENCE, String.format("#/definitions/%s", name));
+
+        if (!isDecorated(schema))
+        {
+            return reference;
+        }
+
+        JsonObject decorated = new JsonObject();
+
+        for (Map.Entry<String, JsonElement> entry : schema.entrySet())
+        {
+            if (isAnnotation(entry.getKey()))
+            {
+                decorated.add(entry.getKey(), entry.getValue());
+            }
+        }
+
+        JsonArray allOf = new JsonArray();
+        allOf.add(reference);
+        decorated.add(ALL_OF, allOf);
+
+        return decorated;
+    }
+
+    private static class Optimization
+    {
+        private final Map<JsonElement, Integer> ids = new IdentityHashMap<>();
+        private final Map<String, Integer> table = new HashMap<>();
+        private final List<Integer> sizes = new ArrayList<>();
+        private final Map<Integer, Shared> shared = new HashMap<>();
+
+        private JsonObject run(JsonObject root)
+        {
+            count(root, true);
+
+            List<Shared> candidates = new ArrayList<>(shared.values());
+
+            Collections.sort(candidates, new Comparator<Shared>()
+            {
+                @Override
+                public int compare(Shared first, Shared second)
+                {
+                    return (first.size != second.size) ? Integer.compare(second.size, first.size) : Integer.compare(first.id, second.id);
+                }
+            });
+
+            Map<String, JsonObject> hoisted = new LinkedHashMap<>();
+
+            for (Shared candidate : candidates)
+            {
+                if (candidate.worthHoisting())
+                {
+                    JsonObject body = core(candidate.source);
+                    String name = SHARED_PREFIX + SchemaRegistry.hash(body.toString()).substring(0, HASH_LENGTH);
+
+                    while (hoisted.containsKey(name))
+                    {
+                        name = name + "-";
+                    }
+
+                    candidate.name = name;
+                    hoisted.put(name, body);
+
+                    for (Map.Entry<Shared, Integer> descendant : candidate.descendants().entrySet())
+                    {
+                        descendant.getKey().count -= (candidate.count - 1) * descendant.getValue();
+                    }
+                }
+            }
+
+            if (!hoisted.isEmpty())
+            {
+                rewrite(root, true);
+
+                JsonObject definitions = root.getAsJsonObject(DEFINITIONS);
+
+                if (definitions == null)
+                {
+                    definitions = new JsonObject();
+                    root.add(DEFINITIONS, definitions);
+                }
+
+                for (Map.Entry<String, JsonObject> entry : hoisted.entrySet())
+                {
+                    rewrite(entry.getValue(), false);
+                    definitions.add(entry.getKey(), entry.getValue());
+                }
+            }
+
+            return root;
+        }
+
+        private void count(JsonObject schema, boolean root)
+        {
+            for (Slot slot : slots(schema, root))
+            {
+                JsonObject child = slot.get();
+
+                if (!slot.named)
+                {
+                    Shared entry = shared(child);
+                    entry.count++;
+
+                    if (isDecorated(child))
+                    {
+                        entry.decorated++;
+                    }
+                }
+
+                count(child, false);
+            }
+        }
+
+        private void rewrite(JsonObject schema, boolean root)
+        {
+            for (Slot slot : slots(schema, root))
+            {
+                JsonObject child = slot.get();
+                Shared entry = slot.named ? null : shared(child);
+
+                if ((entry != null) && (entry.name != null))
+                {
+                    slot.set(reference(child, entry.name));
+                }
+                else
+                {
+                    rewrite(child, false);
+                }
+            }
+        }
+
+        private Shared shared(JsonObject schema)
+        {
+            int id = coreId(schema);
+            Shared entry = shared.get(id);
+
+            if (entry == null)
+            {
+                entry = new Shared(id, sizes.get(id), schema);
+                shared.put(id, entry);
+
+                for (Slot slot : slots(schema, false))
+                {
+                    if (!slot.named)
+                    {
+                        entry.children.add(shared(slot.get()));
+                    }
+                }
+            }
+
+            return entry;
+        }
+
+        private int coreId(JsonObject schema)
+        {
+            if (!isDecorated(schema))
+            {
+                return id(schema);
+            }
+
+            StringBuilder signature = new StringBuilder("{");
+            int size = 2;
+
+            for (Map.Entry<String, JsonElement> entry : schema.entrySet())
+            {
+                if (!isAnnotation(entry.getKey()))
+                {
+                    size += member(signature, entry.getKey(), entry.getValue());
+                }
+            }
+
+            signature.append('}');
+
+            return intern(signature.toString(), size);
+        }
+
+        private int id(JsonElement element)
+        {
+            Integer id = ids.get(element);
+
+            if (id == null)
+            {
+                id = compute(element);
+                ids.put(element, id);
+            }
+
+            return id;
+        }
+
+        private int compute(JsonElement element)
+        {
+            if (element.isJsonObject())
+            {
+                StringBuilder signature = new StringBuilder("{");
+                int size = 2;
+
+                for (Map.Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet())
+                {
+                    size += member(signature, entry.getKey(), entry.getValue());
+                }
+
+                signature.append('}');
+
+                return intern(signature.toString(), size);
+            }
+            else if (element.isJsonArray())
+            {
+                StringBuilder signature = new StringBuilder("[");
+                int size = 2;
+
+                for (JsonElement item : element.getAsJsonArray())
+                {
+                    int id = id(item);
+                    signature.append(id).append(',');
+                    size += sizes.get(id) + 1;
+                }
+
+                signature.append(']');
+
+                return intern(signature.toString(), size);
+            }
+            else
+            {
+                String text = element.toString();
+
+                return intern(text, text.length());
+            }
+        }
+
+        private int member(StringBuilder signature, String key, JsonElement value)
+        {
+            int id = id(value);
+            signature.append(key.length()).append(':').append(key).append('=').append(id).append(';');
+
+            return key.length() + 4 + sizes.get(id);
+        }
+
+        private int intern(String signature, int size)
+        {
+            Integer id = table.get(signature);
+
+            if (id == null)
+            {
+                id = sizes.size();
+                table.put(signature, id);
+                sizes.add(size);
+            }
+
+            return id;
+        }
+    }
+
+    private static class Shared
+    {
+        private final int id;
+        private final int size;
+        private final JsonObject source;
+        private final List<Shared> children = new ArrayList<>();
+        private Map<Shared, Integer> descendants;
+        private int count;
+        private int decorated;
+        private String name;
+
+        private Shared(int id, int size, JsonObject source)
+        {
+            this.id = id;
+            this.size = size;
+            this.source = source;
+        }
+
+        private boolean worthHoisting()
+        {
+            if ((count < 2) || ((source.size() == 1) && source.has(REFERENCE)))
+            {
+                return false;
+            }
+
+            long inline = (long) count * size;
+            long shared = size + DEFINITION_LENGTH + ((long) count * REFERENCE_LENGTH) + ((long) Math.min(decorated, count) * ALL_OF_LENGTH);
+
+            return shared < inline;
+        }
+
+        private Map<Shared, Integer> descendants()
+        {
+            if (descendants == null)
+            {
+                descendants = new HashMap<>();
+
+                for (Shared child : children)
+                {
+                    add(child, 1);
+
+                    for (Map.Entry<Shared, Integer> entry : child.descendants().entrySet())
+                    {
+                        add(entry.getKey(), entry.getValue());
+                    }
+                }
+            }
+
+            return descendants;
+        }
+
+        private void add(Shared entry, int times)
+        {
+            Integer current = descendants.get(entry);
+            descendants.put(entry, (current != null) ? current + times : times);
+        }
+    }
+
+    private static class Slot
+    {
+        private final JsonObject object;
+        private final String key;
+        private final JsonArray array;
+        private final int index;
+        private final boolean named;
+
+        private Slot(JsonObject object, String key, boolean named)
+        {
+            this.object = object;
+            this.key = key;
+            this.array = null;
+            this.index = -1;
+            this.named = named;
+        }
+
+        private Slot(JsonArray array, int index)
+        {
+            this.object = null;
+            this.key = null;
+            this.array = array;
+            this.index = index;
+            this.named = false;
+        }
+
+        private JsonObject get()
+        {
+            return (array != null) ? array.get(index).getAsJsonObject() : object.get(key).getAsJsonObject();
+        }
+
+        private void set(JsonObject value)
+        {
+            if (array != null)
+            {
+                array.set(index, value);
+            }
+            else
+            {
+                object.add(key, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import com.google.gson.JsonObject;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class SchemaRegistry
+{
+    private final JsonSchemaFactory factory;
+    private final LruCache<String, JsonSchema> schemas;
+
+    public static final int DEFAULT_SIZE = 1024;
+
+    private static final AtomicLong CLASS_ID = new AtomicLong();
+
+    private static final ClassValue<Long> CLASS_IDS = new ClassValue<Long>()
+    {
+        @Override
+        protected Long computeValue(Class<?> clazz)
+        {
+            return CLASS_ID.incrementAndGet();
+        }
+    };
+
+    private static final SchemaRegistry SHARED = new SchemaRegistry(Integer.getInteger("jsonschema.registry.size", DEFAULT_SIZE));
+
+    public SchemaRegistry(int maximumSize)
+    {
+        this(JsonSchemaFactory.byDefault(), maximumSize);
+    }
+
+    public SchemaRegistry(JsonSchemaFactory factory, int maximumSize)
+    {
+        this.factory = factory;
+        this.schemas = new LruCache<>(maximumSize);
+    }
+
+    public static SchemaRegistry shared()
+    {
+        return SHARED;
+    }
+
+    public JsonSchema schema(final String uri) throws ProcessingException
+    {
+        try
+        {
+            return load("uri:" + uri, new Callable<JsonSchema>()
+            {
+                @Override
+                public JsonSchema call() throws ProcessingException
+                {
+                    return factory.getJsonSchema(uri);
+                }
+            });
+        }
+        catch (IOException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public JsonSchema schema(JsonObject json) throws IOException, ProcessingException
+    {
+        return schema(JsonTrees.jackson(json), false);
+    }
+
+    public JsonSchema schema(JsonNode json) throws ProcessingException
+    {
+        return schema(json, true);
+    }
+
+    private JsonSchema schema(final JsonNode json, final boolean shared) throws ProcessingException
+    {
+        try
+        {
+            return load("sha256:" + hex(JsonTrees.digest(json)), new Callable<JsonSchema>()
+            {
+                @Override
+                public JsonSchema call() throws ProcessingException
+                {
+                    return factory.getJsonSchema(shared ? json.deepCopy() : json);
+                }
+            });
+        }
+        catch (IOException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public JsonSchema schema(final Class<?> clazz) throws ProcessingException
+    {
+        String key = String.format("class:%d#%d", CLASS_IDS.get(clazz), SchemaCache.generation());
+
+        try
+        {
+            return load(key, new Callable<JsonSchema>()
+            {
+                @Override
+                public JsonSchema call() throws ProcessingException
+                {
+                    return factory.getJsonSchema(JsonTrees.jackson(SchemaCache.shared(clazz)));
+                }
+            });
+        }
+        catch (IOException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private JsonSchema load(String key, Callable<JsonSchema> loader) throws IOException, ProcessingException
+    {
+        try
+        {
+            return schemas.get(key, loader);
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof ProcessingException)
+            {
+                throw (ProcessingException) cause;
+            }
+            else if (cause instanceof IOException)
+            {
+                throw (IOException) cause;
+            }
+            else if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            else if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    public LruCache<String, JsonSchema> cache()
+    {
+        return schemas;
+    }
+
+    public void clear()
+    {
+        schemas.invalidateAll();
+    }
+
+    static String hash(String content)
+    {
+        return hash(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static String hash(byte[] content)
+    {
+        return hex(JsonTrees.sha256().digest(content));
+    }
+
+    private static String hex(byte[] bytes)
+    {
+        StringBuilder builder = new StringBuilder(bytes.length * 2);
+
+        for (byte b : bytes)
+        {
+            builder.append(Character.forDigit((b >> 4) & 0xF, 16));
+            builder.append(Character.forDigit(b & 0xF, 16));
+        }
+
+        return builder.toString();
+    }
+}
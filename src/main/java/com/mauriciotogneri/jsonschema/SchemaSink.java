@@ -0,0 +1,22 @@
+package com.mauriciotogneri.jsonschema;
+
+import java.io.IOException;
+
+public interface SchemaSink
+{
+    SchemaSink beginObject() throws IOException;
+
+    SchemaSink endObject() throws IOException;
+
+    SchemaSink beginArray() throws IOException;
+
+    SchemaSink endArray() throws IOException;
+
+    SchemaSink name(String name) throws IOException;
+
+    SchemaSink value(String value) throws IOException;
+
+    SchemaSink value(Number value) throws IOException;
+
+    SchemaSink value(boolean value) throws IOException;
+}
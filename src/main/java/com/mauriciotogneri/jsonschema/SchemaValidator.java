@@ -5,55 +5,291 @@ import com.github.fge.jackson.JsonLoader;
 import com.github.fge.jsonschema.core.exceptions.ProcessingException;
 import com.github.fge.jsonschema.core.report.ProcessingReport;
 import com.github.fge.jsonschema.main.JsonSchema;
-import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.mauriciotogneri.jsonschema.validator.CompiledSchema;
 
 import java.io.IOException;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
 
 public class SchemaValidator
 {
     private final JsonSchema schema;
+    private final Object source;
+    private final ValidationCache cache;
+    private volatile CompiledSchema compiled;
+
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int MAX_CHUNK_SIZE = 1024;
 
     public SchemaValidator(JsonSchema schema)
+    {
+        this(schema, null, null);
+    }
+
+    private SchemaValidator(JsonSchema schema, Object source, ValidationCache cache)
     {
         this.schema = schema;
+        this.source = source;
+        this.cache = cache;
     }
 
     public SchemaValidator(JsonObject json) throws IOException, ProcessingException
     {
-        JsonNode schemaNode = JsonLoader.fromString(json.toString());
-        JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+        this(json, SchemaRegistry.shared());
+    }
 
-        this.schema = factory.getJsonSchema(schemaNode);
+    public SchemaValidator(JsonObject json, SchemaRegistry registry) throws IOException, ProcessingException
+    {
+        this.schema = registry.schema(json);
+        this.source = json.deepCopy();
+        this.cache = null;
+    }
+
+    public SchemaValidator(Class<?> clazz) throws ProcessingException
+    {
+        this(clazz, SchemaRegistry.shared());
+    }
+
+    public SchemaValidator(Class<?> clazz, SchemaRegistry registry) throws ProcessingException
+    {
+        this.schema = registry.schema(clazz);
+        this.source = clazz;
+        this.cache = null;
     }
 
     public SchemaValidator(String path) throws ProcessingException
     {
-        this.schema = schema(path);
+        this(path, SchemaRegistry.shared());
     }
 
-    public SchemaValidator() throws ProcessingException
+    public SchemaValidator(String path, SchemaRegistry registry) throws ProcessingException
     {
-        this.schema = schema(getClass().getResource("/schema.json").toString());
+        this.schema = registry.schema(path);
+        this.source = path;
+        this.cache = null;
     }
 
-    private JsonSchema schema(String path) throws ProcessingException
+    public SchemaValidator() throws ProcessingException
     {
-        return JsonSchemaFactory.byDefault().getJsonSchema(path);
+        this(SchemaValidator.class.getResource("/schema.json").toString());
     }
 
     public ProcessingReport validate(JsonObject input) throws ProcessingException, IOException
     {
-        return validate(input.toString());
+        return validate(JsonTrees.jackson(input));
+    }
+
+    public SchemaValidator cached(ValidationCache cache)
+    {
+        return new SchemaValidator(schema, source, cache);
     }
 
-    public ProcessingReport validate(String input) throws ProcessingException, IOException
+    public CompiledSchema compiled() throws IOException
     {
-        return validate(JsonLoader.fromString(input));
+        CompiledSchema result = compiled;
+
+        if (result == null)
+        {
+            if (source instanceof JsonObject)
+            {
+                result = CompiledSchema.compileLazily((JsonObject) source);
+            }
+            else if (source instanceof Class)
+            {
+                result = CompiledSchema.compileLazily(SchemaCache.schema((Class<?>) source));
+            }
+            else if (source instanceof String)
+            {
+                result = CompiledSchema.compileLazily(JsonLoader.fromURL(new URL((String) source)));
+            }
+            else
+            {
+                throw new IllegalStateException("schema source is not available");
+            }
+
+            this.compiled = result;
+        }
+
+        return result;
+    }
+
+    public boolean isValid(JsonElement input) throws IOException
+    {
+        return compiled().isValid(input);
+    }
+
+    public ProcessingReport validate(final String input) throws ProcessingException, IOException
+    {
+        if (cache == null)
+        {
+            return schema.validate(JsonLoader.fromString(input));
+        }
+
+        return cache.report(schema, input, new Callable<ProcessingReport>()
+        {
+            @Override
+            public ProcessingReport call() throws IOException, ProcessingException
+            {
+                return schema.validate(JsonLoader.fromString(input));
+            }
+        });
+    }
+
+    public ProcessingReport validate(final JsonNode input) throws ProcessingException
+    {
+        if (cache == null)
+        {
+            return schema.validate(input);
+        }
+
+        try
+        {
+            return cache.report(schema, input, new Callable<ProcessingReport>()
+            {
+                @Override
+                public ProcessingReport call() throws ProcessingException
+                {
+                    return schema.validate(input);
+                }
+            });
+        }
+        catch (IOException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public BatchReport validateAll(List<JsonNode> inputs)
+    {
+        return validateAll(inputs, SharedPool.INSTANCE);
+    }
+
+    public BatchReport validateAll(List<JsonNode> inputs, Executor executor)
+    {
+        int parallelism = Runtime.getRuntime().availableProcessors();
+        int chunkSize = Math.max(1, Math.min(MAX_CHUNK_SIZE, inputs.size() / (parallelism * CHUNKS_PER_THREAD)));
+
+        return validateAll(inputs.iterator(), executor, chunkSize);
+    }
+
+    public BatchReport validateAll(Iterator<JsonNode> inputs, Executor executor)
+    {
+        return validateAll(inputs, executor, MAX_CHUNK_SIZE / 4);
+    }
+
+    private BatchReport validateAll(Iterator<JsonNode> inputs, Executor executor, int chunkSize)
+    {
+        long start = System.nanoTime();
+        int window = Runtime.getRuntime().availableProcessors() * CHUNKS_PER_THREAD;
+        Deque<FutureTask<Chunk>> pending = new ArrayDeque<>();
+        List<ProcessingReport> reports = new ArrayList<>();
+        List<ProcessingException> failures = new ArrayList<>();
+
+        while (inputs.hasNext())
+        {
+            List<JsonNode> documents = new ArrayList<>(chunkSize);
+
+            while (inputs.hasNext() && (documents.size() < chunkSize))
+            {
+                documents.add(inputs.next());
+            }
+
+            FutureTask<Chunk> task = new FutureTask<>(new Chunk(documents));
+            executor.execute(task);
+            pending.add(task);
+
+            if (pending.size() >= window)
+            {
+                collect(pending.poll(), reports, failures);
+            }
+        }
+
+        while (!pending.isEmpty())
+        {
+            collect(pending.poll(), reports, failures);
+        }
+
+        return new BatchReport(reports, failures, System.nanoTime() - start);
+    }
+
+    private void collect(FutureTask<Chunk> task, List<ProcessingReport> reports, List<ProcessingException> failures)
+    {
+        Chunk chunk = result(task);
+        Collections.addAll(reports, chunk.reports);
+        Collections.addAll(failures, chunk.failures);
+    }
+
+    private Chunk result(FutureTask<Chunk> task)
+    {
+        task.run();
+
+        try
+        {
+            return task.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+
+            throw new IllegalStateException(e);
+        }
+        catch (ExecutionException e)
+        {
+            if (e.getCause() instanceof RuntimeException)
+            {
+                throw (RuntimeException) e.getCause();
+            }
+
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private class Chunk implements Callable<Chunk>
+    {
+        private final List<JsonNode> documents;
+        private final ProcessingReport[] reports;
+        private final ProcessingException[] failures;
+
+        private Chunk(List<JsonNode> documents)
+        {
+            this.documents = documents;
+            this.reports = new ProcessingReport[documents.size()];
+            this.failures = new ProcessingException[documents.size()];
+        }
+
+        @Override
+        public Chunk call()
+        {
+            for (int i = 0; i < reports.length; i++)
+            {
+                try
+                {
+                    reports[i] = validate(documents.get(i));
+                }
+                catch (ProcessingException e)
+                {
+                    failures[i] = e;
+                }
+            }
+
+            return this;
+        }
     }
 
-    public ProcessingReport validate(JsonNode input) throws ProcessingException
+    private static class SharedPool
     {
-        return schema.validate(input);
+        private static final ForkJoinPool INSTANCE = new ForkJoinPool();
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.mauriciotogneri.jsonschema;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+public class SerializedSchema
+{
+    private final byte[] bytes;
+    private final ByteBuffer buffer;
+    private final String hash;
+    private final String etag;
+
+    SerializedSchema(byte[] bytes)
+    {
+        this.bytes = bytes;
+        this.buffer = ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+        this.hash = SchemaRegistry.hash(bytes);
+        this.etag = String.format("\"%s\"", hash);
+    }
+
+    public ByteBuffer buffer()
+    {
+        return buffer.duplicate();
+    }
+
+    public int length()
+    {
+        return bytes.length;
+    }
+
+    public String hash()
+    {
+        return hash;
+    }
+
+    public String etag()
+    {
+        return etag;
+    }
+
+    public void writeTo(OutputStream output) throws IOException
+    {
+        output.write(bytes);
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("SerializedSchema[%d bytes, %s]", bytes.length, etag);
+    }
+}
@@ -0,0 +1,79 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+
+public class StreamingSchemaSink implements SchemaSink
+{
+    private final JsonWriter writer;
+
+    public StreamingSchemaSink(JsonWriter writer)
+    {
+        this.writer = writer;
+    }
+
+    @Override
+    public SchemaSink beginObject() throws IOException
+    {
+        writer.beginObject();
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink endObject() throws IOException
+    {
+        writer.endObject();
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink beginArray() throws IOException
+    {
+        writer.beginArray();
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink endArray() throws IOException
+    {
+        writer.endArray();
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink name(String name) throws IOException
+    {
+        writer.name(name);
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink value(String value) throws IOException
+    {
+        writer.value(value);
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink value(Number value) throws IOException
+    {
+        writer.value(value);
+
+        return this;
+    }
+
+    @Override
+    public SchemaSink value(boolean value) throws IOException
+    {
+        writer.value(value);
+
+        return this;
+    }
+}
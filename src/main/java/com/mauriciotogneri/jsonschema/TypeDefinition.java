@@ -4,15 +4,46 @@ import java.io.File;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.Date;
 
 public class TypeDefinition
 {
     private final Class<?> clazz;
+    private final String name;
+    private volatile FieldDefinition[] fields;
+    private volatile Annotation[] annotations;
+
+    private static final ClassValue<TypeDefinition> TYPES = new ClassValue<TypeDefinition>()
+    {
+        @Override
+        protected TypeDefinition computeValue(Class<?> clazz)
+        {
+            return new TypeDefinition(clazz);
+        }
+    };
+
+    private static final Comparator<Field> FIELD_ORDER = new Comparator<Field>()
+    {
+        @Override
+        public int compare(Field first, Field second)
+        {
+            int result = first.getName().compareTo(second.getName());
+
+            return (result != 0) ? result : first.getDeclaringClass().getName().compareTo(second.getDeclaringClass().getName());
+        }
+    };
 
     public TypeDefinition(Class<?> clazz)
     {
         this.clazz = clazz;
+        this.name = clazz.getCanonicalName();
+    }
+
+    public static TypeDefinition of(Class<?> clazz)
+    {
+        return TYPES.get(clazz);
     }
 
     public Class<?> type()
@@ -22,23 +53,44 @@ public class TypeDefinition
 
     public String name()
     {
-        return clazz.getCanonicalName();
+        return name;
     }
 
     public FieldDefinition[] fields()
     {
-        Field[] fields = clazz.getFields();
+        return cachedFields().clone();
+    }
 
-        FieldDefinition[] result = new FieldDefinition[fields.length];
+    FieldDefinition[] cachedFields()
+    {
+        FieldDefinition[] result = fields;
 
-        for (int i = 0; i < fields.length; i++)
+        if (result == null)
         {
-            result[i] = new FieldDefinition(fields[i]);
+            GenerationTracer.Span span = GenerationTracer.begin(GenerationTracer.FIELDS, name);
+            Field[] fields = clazz.getFields();
+            Arrays.sort(fields, FIELD_ORDER);
+
+            result = new FieldDefinition[fields.length];
+
+            for (int i = 0; i < fields.length; i++)
+            {
+                result[i] = new FieldDefinition(fields[i]);
+            }
+
+            this.fields = result;
+            GenerationTracer.end(span);
         }
 
         return result;
     }
 
+    void refresh()
+    {
+        this.fields = null;
+        this.annotations = null;
+    }
+
     public Object[] enums()
     {
         return clazz.getEnumConstants();
@@ -46,12 +98,25 @@ public class TypeDefinition
 
     public Annotation[] annotations()
     {
-        return clazz.getAnnotations();
+        return cachedAnnotations().clone();
+    }
+
+    Annotation[] cachedAnnotations()
+    {
+        Annotation[] result = annotations;
+
+        if (result == null)
+        {
+            result = clazz.getAnnotations();
+            this.annotations = result;
+        }
+
+        return result;
     }
 
     public TypeDefinition componentType()
     {
-        return new TypeDefinition(clazz.getComponentType());
+        return of(clazz.getComponentType());
     }
 
     public Boolean isString()
@@ -120,9 +185,21 @@ public class TypeDefinition
 
         for (int i = 0; i < list.length; i++)
         {
-            result[i] = new TypeDefinition(list[i]);
+            result[i] = of(list[i]);
         }
 
         return result;
     }
+
+    @Override
+    public boolean equals(Object o)
+    {
+        return (this == o) || ((o instanceof TypeDefinition) && clazz.equals(((TypeDefinition) o).clazz));
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return clazz.hashCode();
+    }
 }
\ No newline at end of file
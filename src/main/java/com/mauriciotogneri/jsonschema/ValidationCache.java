@@ -0,0 +1,227 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jsonschema.core.exceptions.ProcessingException;
+import com.github.fge.jsonschema.core.report.ListProcessingReport;
+import com.github.fge.jsonschema.core.report.LogLevel;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+
+public class ValidationCache
+{
+    private final LruCache<Key, Snapshot> reports;
+
+    private static final long ENTRY_OVERHEAD = 128;
+
+    public ValidationCache(int maximumSize)
+    {
+        this(new LruCache<Key, Snapshot>(maximumSize));
+    }
+
+    private ValidationCache(LruCache<Key, Snapshot> reports)
+    {
+        this.reports = reports;
+    }
+
+    public static ValidationCache withMaximumBytes(long maximumBytes)
+    {
+        return new ValidationCache(new LruCache<>(maximumBytes, new LruCache.Weigher<Key, Snapshot>()
+        {
+            @Override
+            public long weigh(Key key, Snapshot snapshot)
+            {
+                return snapshot.bytes;
+            }
+        }));
+    }
+
+    ProcessingReport report(Object schema, String input, Callable<ProcessingReport> validation) throws IOException, ProcessingException
+    {
+        MessageDigest digest = JsonTrees.sha256();
+        digest.update((byte) 'S');
+        digest.update(input.getBytes(StandardCharsets.UTF_8));
+
+        return load(new Key(schema, digest.digest()), validation);
+    }
+
+    ProcessingReport report(Object schema, JsonNode input, Callable<ProcessingReport> validation) throws IOException, ProcessingException
+    {
+        return load(new Key(schema, JsonTrees.digest(input)), validation);
+    }
+
+    private ProcessingReport load(Key key, final Callable<ProcessingReport> validation) throws IOException, ProcessingException
+    {
+        Snapshot snapshot;
+
+        try
+        {
+            snapshot = reports.get(key, new Callable<Snapshot>()
+            {
+                @Override
+                public Snapshot call() throws Exception
+                {
+                    return new Snapshot(validation.call());
+                }
+            });
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+
+            if (cause instanceof ProcessingException)
+            {
+                throw (ProcessingException) cause;
+            }
+            else if (cause instanceof IOException)
+            {
+                throw (IOException) cause;
+            }
+            else if (cause instanceof RuntimeException)
+            {
+                throw (RuntimeException) cause;
+            }
+            else if (cause instanceof Error)
+            {
+                throw (Error) cause;
+            }
+
+            throw new IllegalStateException(cause);
+        }
+
+        return snapshot.report();
+    }
+
+    public LruCache<?, ?> cache()
+    {
+        return reports;
+    }
+
+    public void clear()
+    {
+        reports.invalidateAll();
+    }
+
+    private static final class Key
+    {
+        private final Object schema;
+        private final byte[] digest;
+        private final int hash;
+
+        private Key(Object schema, byte[] digest)
+        {
+            this.schema = schema;
+            this.digest = digest;
+            this.hash = (31 * System.identityHashCode(schema)) + Arrays.hashCode(digest);
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object object)
+        {
+            if (!(object instanceof Key))
+            {
+                return false;
+            }
+
+            Key other = (Key) object;
+
+            return (schema == other.schema) && Arrays.equals(digest, other.digest);
+        }
+    }
+
+    private static final class Snapshot
+    {
+        private final LogLevel logLevel;
+        private final LogLevel exceptionThreshold;
+        private final LogLevel[] levels;
+        private final ObjectNode[] messages;
+        private final long bytes;
+
+        private Snapshot(ProcessingReport report)
+        {
+            List<LogLevel> levels = new ArrayList<>();
+            List<ObjectNode> messages = new ArrayList<>();
+            long bytes = ENTRY_OVERHEAD;
+
+            for (ProcessingMessage message : report)
+            {
+                ObjectNode json = (ObjectNode) message.asJson().deepCopy();
+                json.remove("level");
+
+                levels.add(message.getLogLevel());
+                messages.add(json);
+                bytes += 2L * json.toString().length();
+            }
+
+            this.logLevel = report.getLogLevel();
+            this.exceptionThreshold = report.getExceptionThreshold();
+            this.levels = levels.toArray(new LogLevel[levels.size()]);
+            this.messages = messages.toArray(new ObjectNode[messages.size()]);
+            this.bytes = bytes;
+        }
+
+        private ProcessingReport report() throws ProcessingException
+        {
+            ProcessingReport report = new ListProcessingReport(logLevel, exceptionThreshold);
+
+            for (int i = 0; i < messages.length; i++)
+            {
+                ProcessingMessage message = new ProcessingMessage().setLogLevel(levels[i]);
+                Iterator<Entry<String, JsonNode>> fields = messages[i].fields();
+
+                while (fields.hasNext())
+                {
+                    Entry<String, JsonNode> field = fields.next();
+                    message.put(field.getKey(), field.getValue().deepCopy());
+                }
+
+                log(report, levels[i], message);
+            }
+
+            return report;
+        }
+
+        private static void log(ProcessingReport report, LogLevel level, ProcessingMessage message) throws ProcessingException
+        {
+            switch (level)
+            {
+                case DEBUG:
+                    report.debug(message);
+                    break;
+
+                case INFO:
+                    report.info(message);
+                    break;
+
+                case WARNING:
+                    report.warn(message);
+                    break;
+
+                case ERROR:
+                    report.error(message);
+                    break;
+
+                default:
+                    report.fatal(message);
+                    break;
+            }
+        }
+    }
+}
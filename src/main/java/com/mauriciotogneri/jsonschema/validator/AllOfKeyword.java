@@ -0,0 +1,34 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+final class AllOfKeyword extends Keyword
+{
+    private final SchemaNode[] schemas;
+
+    AllOfKeyword(SchemaNode[] schemas)
+    {
+        super("allOf");
+
+        this.schemas = schemas;
+    }
+
+    @Override
+    <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context)
+    {
+        boolean valid = true;
+
+        for (SchemaNode schema : schemas)
+        {
+            if (!schema.validate(value, adapter, context))
+            {
+                valid = false;
+
+                if (context.stopped())
+                {
+                    return false;
+                }
+            }
+        }
+
+        return valid;
+    }
+}
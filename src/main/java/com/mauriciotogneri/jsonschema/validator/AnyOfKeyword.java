@@ -0,0 +1,36 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+final class AnyOfKeyword extends Keyword
+{
+    private final SchemaNode[] schemas;
+
+    AnyOfKeyword(SchemaNode[] schemas)
+    {
+        super("anyOf");
+
+        this.schemas = schemas;
+    }
+
+    @Override
+    <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context)
+    {
+        context.mute();
+
+        try
+        {
+            for (SchemaNode schema : schemas)
+            {
+                if (schema.validate(value, adapter, context))
+                {
+                    return true;
+                }
+            }
+        }
+        finally
+        {
+            context.unmute();
+        }
+
+        return context.fail(this, "instance failed to match at least one required schema among %d", schemas.length);
+    }
+}
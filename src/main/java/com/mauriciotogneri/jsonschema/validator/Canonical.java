@@ -0,0 +1,72 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+final class Canonical
+{
+    static final Object NULL = new Object()
+    {
+        @Override
+        public String toString()
+        {
+            return "null";
+        }
+    };
+
+    private Canonical()
+    {
+    }
+
+    static <T> Object of(T node, NodeAdapter<T> adapter)
+    {
+        switch (adapter.type(node))
+        {
+            case BOOLEAN:
+                return adapter.booleanValue(node);
+
+            case INTEGER:
+            case NUMBER:
+                return number(adapter.decimalValue(node));
+
+            case STRING:
+                return adapter.stringValue(node);
+
+            case ARRAY:
+                int size = adapter.size(node);
+                List<Object> list = new ArrayList<>(size);
+
+                for (int i = 0; i < size; i++)
+                {
+                    list.add(of(adapter.element(node, i), adapter));
+                }
+
+                return list;
+
+            case OBJECT:
+                Map<String, Object> map = new HashMap<>();
+                Iterator<Entry<String, T>> fields = adapter.fields(node);
+
+                while (fields.hasNext())
+                {
+                    Entry<String, T> field = fields.next();
+                    map.put(field.getKey(), of(field.getValue(), adapter));
+                }
+
+                return map;
+
+            default:
+                return NULL;
+        }
+    }
+
+    private static BigDecimal number(BigDecimal value)
+    {
+        return (value.signum() == 0) ? BigDecimal.ZERO : value.stripTrailingZeros();
+    }
+}
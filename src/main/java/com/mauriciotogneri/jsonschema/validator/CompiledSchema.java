@@ -0,0 +1,161 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.google.gson.JsonElement;
+import com.google.gson.stream.JsonReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CompiledSchema
+{
+    private final SchemaNode root;
+    private final ValidationMetrics metrics;
+
+    private CompiledSchema(SchemaNode root, ValidationMetrics metrics)
+    {
+        this.root = root;
+        this.metrics = metrics;
+    }
+
+    public static CompiledSchema compile(JsonElement schema)
+    {
+        return compile(schema, GsonAdapter.INSTANCE);
+    }
+
+    public static CompiledSchema compile(JsonNode schema)
+    {
+        return compile(schema, JacksonAdapter.INSTANCE);
+    }
+
+    public static <T> CompiledSchema compile(T schema, NodeAdapter<T> adapter)
+    {
+        return new CompiledSchema(new SchemaCompiler<>(schema, adapter, false).compile(), null);
+    }
+
+    public static CompiledSchema compileLazily(JsonElement schema)
+    {
+        return compileLazily(schema, GsonAdapter.INSTANCE);
+    }
+
+    public static CompiledSchema compileLazily(JsonNode schema)
+    {
+        return compileLazily(schema, JacksonAdapter.INSTANCE);
+    }
+
+    public static <T> CompiledSchema compileLazily(T schema, NodeAdapter<T> adapter)
+    {
+        return new CompiledSchema(new SchemaCompiler<>(schema, adapter, true).compile(), null);
+    }
+
+    public CompiledSchema instrument(ValidationMetrics metrics)
+    {
+        return new CompiledSchema(root, metrics);
+    }
+
+    public boolean isValid(JsonElement input)
+    {
+        return isValid(input, GsonAdapter.INSTANCE);
+    }
+
+    public boolean isValid(JsonNode input)
+    {
+        return isValid(input, JacksonAdapter.INSTANCE);
+    }
+
+    public <T> boolean isValid(T input, NodeAdapter<T> adapter)
+    {
+        return root.validate(input, adapter, ValidationContext.failFast().instrument(metrics));
+    }
+
+    public boolean isValid(Reader input) throws IOException
+    {
+        return new StreamValidator(new JsonReader(input), ValidationContext.failFast().instrument(metrics)).validateDocument(root);
+    }
+
+    public ValidationReport validate(JsonElement input)
+    {
+        return validate(input, GsonAdapter.INSTANCE);
+    }
+
+    public ValidationReport validate(JsonElement input, int maxErrors)
+    {
+        return validate(input, GsonAdapter.INSTANCE, maxErrors);
+    }
+
+    public ValidationReport validate(JsonNode input)
+    {
+        return validate(input, JacksonAdapter.INSTANCE);
+    }
+
+    public ValidationReport validate(JsonNode input, int maxErrors)
+    {
+        return validate(input, JacksonAdapter.INSTANCE, maxErrors);
+    }
+
+    public <T> ValidationReport validate(T input, NodeAdapter<T> adapter)
+    {
+        return validate(input, adapter, Integer.MAX_VALUE);
+    }
+
+    public <T> ValidationReport validate(T input, NodeAdapter<T> adapter, int maxErrors)
+    {
+        ErrorCollector collector = new ErrorCollector();
+        ValidationContext context = ValidationContext.capped(collector, maxErrors).instrument(metrics);
+        boolean valid = root.validate(input, adapter, context);
+
+        return new ValidationReport(collector.errors, valid, context.truncated());
+    }
+
+    public ValidationReport validate(Reader input) throws IOException
+    {
+        return validate(input, Integer.MAX_VALUE);
+    }
+
+    public ValidationReport validate(Reader input, int maxErrors) throws IOException
+    {
+        ErrorCollector collector = new ErrorCollector();
+        ValidationContext context = ValidationContext.capped(collector, maxErrors).instrument(metrics);
+        boolean valid = new StreamValidator(new JsonReader(input), context).validateDocument(root);
+
+        return new ValidationReport(collector.errors, valid, context.truncated());
+    }
+
+    public ValidationReport validate(InputStream input) throws IOException
+    {
+        return validate(new InputStreamReader(input, StandardCharsets.UTF_8));
+    }
+
+    public boolean validate(Reader input, ErrorListener listener) throws IOException
+    {
+        return validate(new JsonReader(input), listener);
+    }
+
+    public boolean validate(JsonReader input, ErrorListener listener) throws IOException
+    {
+        return validate(input, listener, Integer.MAX_VALUE);
+    }
+
+    public boolean validate(JsonReader input, ErrorListener listener, int maxErrors) throws IOException
+    {
+        StreamValidator validator = new StreamValidator(input, ValidationContext.capped(listener, maxErrors).instrument(metrics));
+
+        return validator.validateDocument(root);
+    }
+
+    private static class ErrorCollector implements ErrorListener
+    {
+        private final List<ValidationError> errors = new ArrayList<>();
+
+        @Override
+        public void onError(ValidationError error)
+        {
+            errors.add(error);
+        }
+    }
+}
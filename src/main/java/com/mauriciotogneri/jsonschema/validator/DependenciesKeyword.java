@@ -0,0 +1,63 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import java.util.Map;
+import java.util.Map.Entry;
+
+final class DependenciesKeyword extends Keyword
+{
+    private final Map<String, String[]> properties;
+    private final Map<String, SchemaNode> schemas;
+
+    DependenciesKeyword(Map<String, String[]> properties, Map<String, SchemaNode> schemas)
+    {
+        super("dependencies");
+
+        this.properties = properties;
+        this.schemas = schemas;
+    }
+
+    @Override
+    <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context)
+    {
+        if (adapter.type(value) != NodeType.OBJECT)
+        {
+            return true;
+        }
+
+        boolean valid = true;
+
+        for (Entry<String, String[]> entry : properties.entrySet())
+        {
+            if (adapter.field(value, entry.getKey()) != null)
+            {
+                for (String dependency : entry.getValue())
+                {
+                    if (adapter.field(value, dependency) == null)
+                    {
+                        valid = context.fail(this, "property \"%s\" requires property \"%s\"", entry.getKey(), dependency);
+
+                        if (context.stopped())
+                        {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+
+        for (Entry<String, SchemaNode> entry : schemas.entrySet())
+        {
+            if ((adapter.field(value, entry.getKey()) != null) && !entry.getValue().validate(value, adapter, context))
+            {
+                valid = false;
+
+                if (context.stopped())
+                {
+                    return false;
+                }
+            }
+        }
+
+        return valid;
+    }
+}
@@ -0,0 +1,32 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+final class EnumKeyword extends Keyword
+{
+    private final List<Object> values;
+    private final Set<Object> members;
+
+    EnumKeyword(List<Object> values)
+    {
+        super("enum");
+
+        this.values = values;
+        this.members = new HashSet<>(values);
+    }
+
+    @Override
+    <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context)
+    {
+        Object instance = Canonical.of(value, adapter);
+
+        if (members.contains(instance))
+        {
+            return true;
+        }
+
+        return context.fail(this, "instance value (%s) not found in enum (possible values: %s)", instance, values);
+    }
+}
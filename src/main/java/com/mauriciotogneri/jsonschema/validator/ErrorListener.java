@@ -0,0 +1,6 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+public interface ErrorListener
+{
+    void onError(ValidationError error);
+}
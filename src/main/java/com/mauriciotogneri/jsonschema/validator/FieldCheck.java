@@ -0,0 +1,164 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import com.mauriciotogneri.jsonschema.Constraints;
+import com.mauriciotogneri.jsonschema.FieldDefinition;
+import com.mauriciotogneri.jsonschema.TypeDefinition;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.util.regex.Pattern;
+
+final class FieldCheck
+{
+    static final int OBJECT = 0;
+    static final int INTEGRAL = 1;
+    static final int FLOAT = 2;
+    static final int DOUBLE = 3;
+
+    private final String name;
+    private final MethodHandle getter;
+    private final int access;
+    private final TypeDefinition type;
+    private final Constraints constraints;
+    private final Pattern pattern;
+    private final FormatKeyword format;
+    private final BigDecimal multipleOf;
+    private final TypeDefinition[] allOf;
+    private final TypeDefinition[] anyOf;
+    private final TypeDefinition[] oneOf;
+
+    FieldCheck(FieldDefinition field) throws IllegalAccessException
+    {
+        Field reflected = field.field();
+        Class<?> fieldType = reflected.getType();
+
+        this.type = field.typeDefinition();
+        this.constraints = field.annotations().constraints();
+        this.name = constraints.has(Constraints.NAME) ? constraints.name() : field.name();
+        this.pattern = constraints.has(Constraints.PATTERN) ? Pattern.compile(constraints.pattern()) : null;
+        this.format = constraints.has(Constraints.FORMAT) ? FormatKeyword.of(constraints.format()) : null;
+        this.multipleOf = constraints.has(Constraints.MULTIPLE_OF) ? new BigDecimal(Float.toString(constraints.multipleOf())) : null;
+        this.allOf = constraints.allOf();
+        this.anyOf = constraints.anyOf();
+        this.oneOf = constraints.oneOf();
+
+        if ((fieldType == int.class) || (fieldType == long.class) || (fieldType == short.class) || (fieldType == byte.class))
+        {
+            this.access = INTEGRAL;
+        }
+        else if (fieldType == float.class)
+        {
+            this.access = FLOAT;
+        }
+        else if (fieldType == double.class)
+        {
+            this.access = DOUBLE;
+        }
+        else
+        {
+            this.access = OBJECT;
+        }
+
+        reflected.setAccessible(true);
+        MethodHandle handle = MethodHandles.lookup().unreflectGetter(reflected);
+
+        if (Modifier.isStatic(reflected.getModifiers()))
+        {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+
+        this.getter = handle.asType(MethodType.methodType(returnType(access), Object.class));
+    }
+
+    private static Class<?> returnType(int access)
+    {
+        switch (access)
+        {
+            case INTEGRAL:
+                return long.class;
+
+            case FLOAT:
+                return float.class;
+
+            case DOUBLE:
+                return double.class;
+
+            default:
+                return Object.class;
+        }
+    }
+
+    String name()
+    {
+        return name;
+    }
+
+    int access()
+    {
+        return access;
+    }
+
+    TypeDefinition type()
+    {
+        return type;
+    }
+
+    Constraints constraints()
+    {
+        return constraints;
+    }
+
+    Pattern pattern()
+    {
+        return pattern;
+    }
+
+    FormatKeyword format()
+    {
+        return format;
+    }
+
+    BigDecimal multipleOf()
+    {
+        return multipleOf;
+    }
+
+    TypeDefinition[] allOf()
+    {
+        return allOf;
+    }
+
+    TypeDefinition[] anyOf()
+    {
+        return anyOf;
+    }
+
+    TypeDefinition[] oneOf()
+    {
+        return oneOf;
+    }
+
+    long longValue(Object object) throws Throwable
+    {
+        return (long) getter.invokeExact(object);
+    }
+
+    float floatValue(Object object) throws Throwable
+    {
+        return (float) getter.invokeExact(object);
+    }
+
+    double doubleValue(Object object) throws Throwable
+    {
+        return (double) getter.invokeExact(object);
+    }
+
+    Object value(Object object) throws Throwable
+    {
+        return (Object) getter.invokeExact(object);
+    }
+}
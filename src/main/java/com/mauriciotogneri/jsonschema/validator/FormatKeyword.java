@@ -0,0 +1,101 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+final class FormatKeyword extends Keyword
+{
+    private final String format;
+
+    private static final Pattern DATE_TIME = Pattern.compile("^\\d{4}-\\d{2}-\\d{2}[Tt]\\d{2}:\\d{2}:\\d{2}(\\.\\d+)?([Zz]|[+-]\\d{2}:\\d{2})$");
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+$");
+    private static final Pattern IPV4 = Pattern.compile("^((25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)\\.){3}(25[0-5]|2[0-4]\\d|1\\d\\d|[1-9]?\\d)$");
+    private static final Pattern HOSTNAME = Pattern.compile("^(?=.{1,255}$)[A-Za-z0-9]([A-Za-z0-9-]{0,61}[A-Za-z0-9])?(\\.[A-Za-z0-9]([A-Za-z0-9-]{0,61}[A-Za-z0-9])?)*$");
+
+    private FormatKeyword(String format)
+    {
+        super("format");
+
+        this.format = format;
+    }
+
+    static FormatKeyword of(String format)
+    {
+        switch (format)
+        {
+            case "date-time":
+            case "uri":
+            case "email":
+            case "ipv4":
+            case "hostname":
+            case "regex":
+                return new FormatKeyword(format);
+
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context)
+    {
+        if (adapter.type(value) != NodeType.STRING)
+        {
+            return true;
+        }
+
+        if (matches(adapter.stringValue(value)))
+        {
+            return true;
+        }
+
+        return context.fail(this, "string is not a valid %s", format);
+    }
+
+    boolean matches(String value)
+    {
+        switch (format)
+        {
+            case "date-time":
+                return DATE_TIME.matcher(value).matches();
+
+            case "email":
+                return EMAIL.matcher(value).matches();
+
+            case "ipv4":
+                return IPV4.matcher(value).matches();
+
+            case "hostname":
+                return HOSTNAME.matcher(value).matches();
+
+            case "uri":
+                try
+                {
+                    new URI(value);
+
+                    return true;
+                }
+                catch (URISyntaxException e)
+                {
+                    return false;
+                }
+
+            case "regex":
+                try
+                {
+                    Pattern.compile(value);
+
+                    return true;
+                }
+                catch (PatternSyntaxException e)
+                {
+                    return false;
+                }
+
+            default:
+                return true;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonPrimitive;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+public final class GsonAdapter implements NodeAdapter<JsonElement>
+{
+    public static final GsonAdapter INSTANCE = new GsonAdapter();
+
+    private GsonAdapter()
+    {
+    }
+
+    @Override
+    public NodeType type(JsonElement node)
+    {
+        if (node.isJsonObject())
+        {
+            return NodeType.OBJECT;
+        }
+        else if (node.isJsonArray())
+        {
+            return NodeType.ARRAY;
+        }
+        else if (node.isJsonPrimitive())
+        {
+            JsonPrimitive primitive = node.getAsJsonPrimitive();
+
+            if (primitive.isString())
+            {
+                return NodeType.STRING;
+            }
+            else if (primitive.isBoolean())
+            {
+                return NodeType.BOOLEAN;
+            }
+            else
+            {
+                return isIntegral(primitive.getAsNumber()) ? NodeType.INTEGER : NodeType.NUMBER;
+            }
+        }
+        else
+        {
+            return NodeType.NULL;
+        }
+    }
+
+    private boolean isIntegral(Number number)
+    {
+        if ((number instanceof Integer) || (number instanceof Long) || (number instanceof Short) || (number instanceof Byte))
+        {
+            return true;
+        }
+
+        String value = number.toString();
+
+        for (int i = 0; i < value.length(); i++)
+        {
+            char c = value.charAt(i);
+
+            if ((c == '.') || (c == 'e') || (c == 'E'))
+            {
+                return false;
+            }
+        }
+
+        return !value.isEmpty();
+    }
+
+    @Override
+    public boolean booleanValue(JsonElement node)
+    {
+        return node.getAsBoolean();
+    }
+
+    @Override
+    public String stringValue(JsonElement node)
+    {
+        return node.getAsString();
+    }
+
+    @Override
+    public double doubleValue(JsonElement node)
+    {
+        return node.getAsDouble();
+    }
+
+    @Override
+    public BigDecimal decimalValue(JsonElement node)
+    {
+        return node.getAsBigDecimal();
+    }
+
+    @Override
+    public int size(JsonElement node)
+    {
+        return node.isJsonArray() ? node.getAsJsonArray().size() : node.getAsJsonObject().size();
+    }
+
+    @Override
+    public JsonElement element(JsonElement array, int index)
+    {
+        return array.getAsJsonArray().get(index);
+    }
+
+    @Override
+    public JsonElement field(JsonElement object, String name)
+    {
+        return object.getAsJsonObject().get(name);
+    }
+
+    @Override
+    public Iterator<Entry<String, JsonElement>> fields(JsonElement object)
+    {
+        return object.getAsJsonObject().entrySet().iterator();
+    }
+}
@@ -0,0 +1,87 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+final class ItemsKeyword extends Keyword
+{
+    private final SchemaNode items;
+    private final SchemaNode[] tuple;
+    private final boolean additionalAllowed;
+    private final SchemaNode additional;
+
+    ItemsKeyword(SchemaNode items, SchemaNode[] tuple, boolean additionalAllowed, SchemaNode additional)
+    {
+        super("items");
+
+        this.items = items;
+        this.tuple = tuple;
+        this.additionalAllowed = additionalAllowed;
+        this.additional = additional;
+    }
+
+    SchemaNode item(int index)
+    {
+        if (items != null)
+        {
+            return items;
+        }
+        else if (index < tuple.length)
+        {
+            return tuple[index];
+        }
+        else
+        {
+            return additional;
+        }
+    }
+
+    boolean allows(int index)
+    {
+        return (items != null) || (index < tuple.length) || additionalAllowed || (additional != null);
+    }
+
+    boolean failAdditional(ValidationContext context)
+    {
+        return context.fail(this, "array must not have more than %d elements (additionalItems)", tuple.length);
+    }
+
+    @Override
+    <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context)
+    {
+        if (adapter.type(value) != NodeType.ARRAY)
+        {
+            return true;
+        }
+
+        int size = adapter.size(value);
+
+        if (!allows(size - 1))
+        {
+            return failAdditional(context);
+        }
+
+        boolean valid = true;
+
+        for (int i = 0; i < size; i++)
+        {
+            SchemaNode schema = item(i);
+
+            if (schema != null)
+            {
+                context.push(i);
+                boolean itemValid = schema.validate(adapter.element(value, i), adapter, context);
+                context.pop();
+
+                if (!itemValid)
+                {
+                    valid = false;
+
+                    if (context.stopped())
+                    {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        return valid;
+    }
+}
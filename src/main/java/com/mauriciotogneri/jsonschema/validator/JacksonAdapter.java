@@ -0,0 +1,97 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+public final class JacksonAdapter implements NodeAdapter<JsonNode>
+{
+    public static final JacksonAdapter INSTANCE = new JacksonAdapter();
+
+    private JacksonAdapter()
+    {
+    }
+
+    @Override
+    public NodeType type(JsonNode node)
+    {
+        if (node.isObject())
+        {
+            return NodeType.OBJECT;
+        }
+        else if (node.isArray())
+        {
+            return NodeType.ARRAY;
+        }
+        else if (node.isTextual())
+        {
+            return NodeType.STRING;
+        }
+        else if (node.isBoolean())
+        {
+            return NodeType.BOOLEAN;
+        }
+        else if (node.isIntegralNumber())
+        {
+            return NodeType.INTEGER;
+        }
+        else if (node.isNumber())
+        {
+            return NodeType.NUMBER;
+        }
+        else
+        {
+            return NodeType.NULL;
+        }
+    }
+
+    @Override
+    public boolean booleanValue(JsonNode node)
+    {
+        return node.booleanValue();
+    }
+
+    @Override
+    public String stringValue(JsonNode node)
+    {
+        return node.textValue();
+    }
+
+    @Override
+    public double doubleValue(JsonNode node)
+    {
+        return node.doubleValue();
+    }
+
+    @Override
+    public BigDecimal decimalValue(JsonNode node)
+    {
+        return node.decimalValue();
+    }
+
+    @Override
+    public int size(JsonNode node)
+    {
+        return node.size();
+    }
+
+    @Override
+    public JsonNode element(JsonNode array, int index)
+    {
+        return array.get(index);
+    }
+
+    @Override
+    public JsonNode field(JsonNode object, String name)
+    {
+        return object.get(name);
+    }
+
+    @Override
+    public Iterator<Entry<String, JsonNode>> fields(JsonNode object)
+    {
+        return object.fields();
+    }
+}
@@ -0,0 +1,18 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+abstract class Keyword
+{
+    private final String name;
+
+    Keyword(String name)
+    {
+        this.name = name;
+    }
+
+    String name()
+    {
+        return name;
+    }
+
+    abstract <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context);
+}
@@ -0,0 +1,49 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+public class KeywordStatistics
+{
+    private final AtomicLong invocations = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+
+    void record(long nanos, boolean valid)
+    {
+        invocations.incrementAndGet();
+        totalNanos.addAndGet(nanos);
+
+        if (!valid)
+        {
+            failures.incrementAndGet();
+        }
+    }
+
+    public long getInvocations()
+    {
+        return invocations.get();
+    }
+
+    public long getFailures()
+    {
+        return failures.get();
+    }
+
+    public long getTotalNanos()
+    {
+        return totalNanos.get();
+    }
+
+    public long getAverageNanos()
+    {
+        long count = invocations.get();
+
+        return (count > 0) ? totalNanos.get() / count : 0;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("%d invocations, %d failures, %d us total", getInvocations(), getFailures(), getTotalNanos() / 1000);
+    }
+}
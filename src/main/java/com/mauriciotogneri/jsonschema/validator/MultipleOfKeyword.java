@@ -0,0 +1,33 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import java.math.BigDecimal;
+
+final class MultipleOfKeyword extends Keyword
+{
+    private final BigDecimal divisor;
+
+    MultipleOfKeyword(BigDecimal divisor)
+    {
+        super("multipleOf");
+
+        this.divisor = divisor;
+    }
+
+    @Override
+    <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context)
+    {
+        NodeType type = adapter.type(value);
+
+        if ((type != NodeType.INTEGER) && (type != NodeType.NUMBER))
+        {
+            return true;
+        }
+
+        if (adapter.decimalValue(value).remainder(divisor).signum() == 0)
+        {
+            return true;
+        }
+
+        return context.fail(this, "remainder of division is not zero (divisor: %s)", divisor.toPlainString());
+    }
+}
@@ -0,0 +1,26 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.Map.Entry;
+
+public interface NodeAdapter<T>
+{
+    NodeType type(T node);
+
+    boolean booleanValue(T node);
+
+    String stringValue(T node);
+
+    double doubleValue(T node);
+
+    BigDecimal decimalValue(T node);
+
+    int size(T node);
+
+    T element(T array, int index);
+
+    T field(T object, String name);
+
+    Iterator<Entry<String, T>> fields(T object);
+}
@@ -0,0 +1,30 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+public enum NodeType
+{
+    NULL("null"),
+    BOOLEAN("boolean"),
+    INTEGER("integer"),
+    NUMBER("number"),
+    STRING("string"),
+    ARRAY("array"),
+    OBJECT("object");
+
+    private final String name;
+
+    NodeType(String name)
+    {
+        this.name = name;
+    }
+
+    public int mask()
+    {
+        return 1 << ordinal();
+    }
+
+    @Override
+    public String toString()
+    {
+        return name;
+    }
+}
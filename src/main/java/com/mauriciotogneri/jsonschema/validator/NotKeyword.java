@@ -0,0 +1,32 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+final class NotKeyword extends Keyword
+{
+    private final SchemaNode schema;
+
+    NotKeyword(SchemaNode schema)
+    {
+        super("not");
+
+        this.schema = schema;
+    }
+
+    @Override
+    <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context)
+    {
+        boolean matched;
+
+        context.mute();
+
+        try
+        {
+            matched = schema.validate(value, adapter, context);
+        }
+        finally
+        {
+            context.unmute();
+        }
+
+        return !matched || context.fail(this, "instance matched a schema which it should not");
+    }
+}
@@ -0,0 +1,503 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import com.mauriciotogneri.jsonschema.Constraints;
+import com.mauriciotogneri.jsonschema.FieldDefinition;
+import com.mauriciotogneri.jsonschema.TypeDefinition;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+public class ObjectValidator
+{
+    private static final ClassValue<FieldCheck[]> CHECKS = new ClassValue<FieldCheck[]>()
+    {
+        @Override
+        protected FieldCheck[] computeValue(Class<?> clazz)
+        {
+            FieldDefinition[] fields = TypeDefinition.of(clazz).fields();
+            FieldCheck[] checks = new FieldCheck[fields.length];
+
+            try
+            {
+                for (int i = 0; i < fields.length; i++)
+                {
+                    checks[i] = new FieldCheck(fields[i]);
+                }
+            }
+            catch (IllegalAccessException e)
+            {
+                throw new IllegalStateException(e);
+            }
+
+            return checks;
+        }
+    };
+
+    private ObjectValidator()
+    {
+    }
+
+    public static boolean isValid(Object object)
+    {
+        return validate(object, ValidationContext.failFast());
+    }
+
+    public static ValidationReport validate(Object object)
+    {
+        return validate(object, Integer.MAX_VALUE);
+    }
+
+    public static ValidationReport validate(Object object, int maxErrors)
+    {
+        final List<ValidationError> errors = new ArrayList<>();
+
+        ValidationContext context = ValidationContext.capped(new ErrorListener()
+        {
+            @Override
+            public void onError(ValidationError error)
+            {
+                errors.add(error);
+            }
+        }, maxErrors);
+
+        boolean valid = validate(object, context);
+
+        return new ValidationReport(errors, valid, context.truncated());
+    }
+
+    public static boolean validate(Object object, ErrorListener listener)
+    {
+        return validate(object, new ValidationContext(listener));
+    }
+
+    private static boolean validate(Object object, ValidationContext context)
+    {
+        if (object == null)
+        {
+            return context.fail("type", "instance must not be null");
+        }
+
+        return validateValue(object, context, Collections.newSetFromMap(new IdentityHashMap<Object, Boolean>()));
+    }
+
+    private static boolean validateObject(Object object, ValidationContext context, Set<Object> visiting)
+    {
+        if (!visiting.add(object))
+        {
+            return true;
+        }
+
+        boolean valid = true;
+
+        try
+        {
+            for (FieldCheck check : CHECKS.get(object.getClass()))
+            {
+                context.push(check.name());
+                boolean fieldValid = validateField(check, object, context, visiting);
+                context.pop();
+
+                if (!fieldValid)
+                {
+                    valid = false;
+
+                    if (context.stopped())
+                    {
+                        return false;
+                    }
+                }
+            }
+        }
+        finally
+        {
+            visiting.remove(object);
+        }
+
+        return valid;
+    }
+
+    private static boolean validateField(FieldCheck check, Object object, ValidationContext context, Set<Object> visiting)
+    {
+        Constraints constraints = check.constraints();
+
+        try
+        {
+            switch (check.access())
+            {
+                case FieldCheck.INTEGRAL:
+                    long integral = check.longValue(object);
+
+                    return checkRange(check, integral, context) && ((check.multipleOf() == null) || checkMultipleOf(check, BigDecimal.valueOf(integral), context));
+
+                case FieldCheck.FLOAT:
+                    float single = check.floatValue(object);
+
+                    return checkRange(check, single, context) && ((check.multipleOf() == null) || checkMultipleOf(check, new BigDecimal(Float.toString(single)), context));
+
+                case FieldCheck.DOUBLE:
+                    double floating = check.doubleValue(object);
+
+                    return checkRange(check, floating, context) && ((check.multipleOf() == null) || checkMultipleOf(check, BigDecimal.valueOf(floating), context));
+
+                default:
+                    Object value = check.value(object);
+
+                    if (value == null)
+                    {
+                        return constraints.has(Constraints.OPTIONAL) || context.fail("required", "missing required property");
+                    }
+
+                    return checkValue(check, value, context, visiting);
+            }
+        }
+        catch (RuntimeException | Error e)
+        {
+            throw e;
+        }
+        catch (Throwable e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static boolean checkValue(FieldCheck check, Object value, ValidationContext context, Set<Object> visiting)
+    {
+        Constraints constraints = check.constraints();
+
+        if (constraints.has(Constraints.ALL_OF | Constraints.ANY_OF | Constraints.ONE_OF | Constraints.NOT))
+        {
+            return checkTypes(check, value, context) && validateValue(value, context, visiting);
+        }
+
+        if ((value instanceof Integer) || (value instanceof Long) || (value instanceof Short) || (value instanceof Byte))
+        {
+            long number = ((Number) value).longValue();
+
+            return checkRange(check, number, context) && ((check.multipleOf() == null) || checkMultipleOf(check, BigDecimal.valueOf(number), context));
+        }
+        else if (value instanceof Float)
+        {
+            float number = (Float) value;
+
+            return checkRange(check, number, context) && ((check.multipleOf() == null) || checkMultipleOf(check, new BigDecimal(Float.toString(number)), context));
+        }
+        else if (value instanceof Double)
+        {
+            double number = (Double) value;
+
+            return checkRange(check, number, context) && ((check.multipleOf() == null) || checkMultipleOf(check, BigDecimal.valueOf(number), context));
+        }
+        else if ((value instanceof String) || (value instanceof Character))
+        {
+            return checkString(check, value.toString(), context);
+        }
+        else if (value.getClass().isArray())
+        {
+            return checkArray(check, value, context) && validateValue(value, context, visiting);
+        }
+        else if (isModel(value.getClass()))
+        {
+            return checkProperties(check, value, context) && validateObject(value, context, visiting);
+        }
+
+        return true;
+    }
+
+    private static boolean validateValue(Object value, ValidationContext context, Set<Object> visiting)
+    {
+        Class<?> clazz = value.getClass();
+
+        if (clazz.isArray())
+        {
+            if (clazz.getComponentType().isPrimitive())
+            {
+                return true;
+            }
+
+            boolean valid = true;
+            int length = Array.getLength(value);
+
+            for (int i = 0; i < length; i++)
+            {
+                Object element = Array.get(value, i);
+
+                context.push(i);
+                boolean elementValid = (element != null) ? validateValue(element, context, visiting) : context.fail("type", "array element must not be null");
+                context.pop();
+
+                if (!elementValid)
+                {
+                    valid = false;
+
+                    if (context.stopped())
+                    {
+                        return false;
+                    }
+                }
+            }
+
+            return valid;
+        }
+        else if (isModel(clazz))
+        {
+            return validateObject(value, context, visiting);
+        }
+
+        return true;
+    }
+
+    private static boolean isModel(Class<?> clazz)
+    {
+        return (clazz.getClassLoader() != null) && !TypeDefinition.of(clazz).isPrimitive();
+    }
+
+    private static boolean checkRange(FieldCheck check, double value, ValidationContext context)
+    {
+        Constraints constraints = check.constraints();
+
+        if (constraints.has(Constraints.MINIMUM))
+        {
+            boolean exclusive = constraints.exclusiveMinimum();
+
+            if (exclusive ? (value <= constraints.minimum()) : (value < constraints.minimum()))
+            {
+                return context.fail("minimum", "numeric instance is lower than the required minimum (%s%d)", exclusive ? "exclusive " : "", constraints.minimum());
+            }
+        }
+
+        if (constraints.has(Constraints.MAXIMUM))
+        {
+            boolean exclusive = constraints.exclusiveMaximum();
+
+            if (exclusive ? (value >= constraints.maximum()) : (value > constraints.maximum()))
+            {
+                return context.fail("maximum", "numeric instance is greater than the required maximum (%s%d)", exclusive ? "exclusive " : "", constraints.maximum());
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean checkMultipleOf(FieldCheck check, BigDecimal value, ValidationContext context)
+    {
+        if (value.remainder(check.multipleOf()).signum() == 0)
+        {
+            return true;
+        }
+
+        return context.fail("multipleOf", "remainder of division is not zero (divisor: %s)", check.multipleOf().toPlainString());
+    }
+
+    private static boolean checkString(FieldCheck check, String value, ValidationContext context)
+    {
+        Constraints constraints = check.constraints();
+        boolean valid = true;
+
+        if (constraints.has(Constraints.MIN_LENGTH | Constraints.MAX_LENGTH))
+        {
+            int length = value.codePointCount(0, value.length());
+
+            if (constraints.has(Constraints.MIN_LENGTH) && (length < constraints.minLength()))
+            {
+                valid = context.fail("minLength", "size (%d) is lower than minimum allowed (%d)", length, constraints.minLength());
+            }
+
+            if (constraints.has(Constraints.MAX_LENGTH) && (length > constraints.maxLength()))
+            {
+                valid = context.fail("maxLength", "size (%d) is greater than maximum allowed (%d)", length, constraints.maxLength());
+            }
+        }
+
+        if ((check.pattern() != null) && !check.pattern().matcher(value).find())
+        {
+            valid = context.fail("pattern", "string does not match the regex \"%s\"", check.pattern().pattern());
+        }
+
+        if ((check.format() != null) && !check.format().matches(value))
+        {
+            valid = context.fail("format", "string is not a valid %s", constraints.format());
+        }
+
+        return valid;
+    }
+
+    private static boolean checkArray(FieldCheck check, Object value, ValidationContext context)
+    {
+        Constraints constraints = check.constraints();
+        int length = Array.getLength(value);
+        boolean valid = true;
+
+        if (constraints.has(Constraints.MIN_ITEMS) && (length < constraints.minItems()))
+        {
+            valid = context.fail("minItems", "size (%d) is lower than minimum allowed (%d)", length, constraints.minItems());
+        }
+
+        if (constraints.has(Constraints.MAX_ITEMS) && (length > constraints.maxItems()))
+        {
+            valid = context.fail("maxItems", "size (%d) is greater than maximum allowed (%d)", length, constraints.maxItems());
+        }
+
+        if (constraints.has(Constraints.UNIQUE_ITEMS) && constraints.uniqueItems())
+        {
+            Set<Object> seen = new HashSet<>();
+
+            for (int i = 0; i < length; i++)
+            {
+                if (!seen.add(Array.get(value, i)))
+                {
+                    valid = context.fail("uniqueItems", "array must not contain duplicate elements (element %d)", i);
+                    break;
+                }
+            }
+        }
+
+        return valid;
+    }
+
+    private static boolean checkProperties(FieldCheck check, Object value, ValidationContext context)
+    {
+        Constraints constraints = check.constraints();
+
+        if (!constraints.has(Constraints.MIN_PROPERTIES | Constraints.MAX_PROPERTIES))
+        {
+            return true;
+        }
+
+        int count = 0;
+
+        try
+        {
+            for (FieldCheck field : CHECKS.get(value.getClass()))
+            {
+                if ((field.access() != FieldCheck.OBJECT) || (field.value(value) != null))
+                {
+                    count++;
+                }
+            }
+        }
+        catch (RuntimeException | Error e)
+        {
+            throw e;
+        }
+        catch (Throwable e)
+        {
+            throw new IllegalStateException(e);
+        }
+
+        if (constraints.has(Constraints.MIN_PROPERTIES) && (count < constraints.minProperties()))
+        {
+            return context.fail("minProperties", "size (%d) is lower than minimum allowed (%d)", count, constraints.minProperties());
+        }
+
+        if (constraints.has(Constraints.MAX_PROPERTIES) && (count > constraints.maxProperties()))
+        {
+            return context.fail("maxProperties", "size (%d) is greater than maximum allowed (%d)", count, constraints.maxProperties());
+        }
+
+        return true;
+    }
+
+    private static boolean checkTypes(FieldCheck check, Object value, ValidationContext context)
+    {
+        Constraints constraints = check.constraints();
+
+        if (constraints.has(Constraints.ALL_OF))
+        {
+            for (TypeDefinition type : check.allOf())
+            {
+                if (!isInstance(type, value))
+                {
+                    return context.fail("allOf", "instance is not a %s", type.name());
+                }
+            }
+        }
+
+        if (constraints.has(Constraints.ANY_OF) && (matches(check.anyOf(), value) == 0))
+        {
+            return context.fail("anyOf", "instance failed to match at least one required type");
+        }
+
+        if (constraints.has(Constraints.ONE_OF) && (matches(check.oneOf(), value) != 1))
+        {
+            return context.fail("oneOf", "instance failed to match exactly one type");
+        }
+
+        if (constraints.has(Constraints.NOT) && isInstance(constraints.not(), value))
+        {
+            return context.fail("not", "instance must not be a %s", constraints.not().name());
+        }
+
+        return true;
+    }
+
+    private static int matches(TypeDefinition[] types, Object value)
+    {
+        int matches = 0;
+
+        for (TypeDefinition type : types)
+        {
+            if (isInstance(type, value))
+            {
+                matches++;
+            }
+        }
+
+        return matches;
+    }
+
+    private static boolean isInstance(TypeDefinition type, Object value)
+    {
+        Class<?> clazz = type.type();
+
+        if (clazz.isPrimitive())
+        {
+            return wrapper(clazz).isInstance(value);
+        }
+
+        return clazz.isInstance(value);
+    }
+
+    private static Class<?> wrapper(Class<?> clazz)
+    {
+        if (clazz == int.class)
+        {
+            return Integer.class;
+        }
+        else if (clazz == long.class)
+        {
+            return Long.class;
+        }
+        else if (clazz == float.class)
+        {
+            return Float.class;
+        }
+        else if (clazz == double.class)
+        {
+            return Double.class;
+        }
+        else if (clazz == boolean.class)
+        {
+            return Boolean.class;
+        }
+        else if (clazz == char.class)
+        {
+            return Character.class;
+        }
+        else if (clazz == short.class)
+        {
+            return Short.class;
+        }
+        else if (clazz == byte.class)
+        {
+            return Byte.class;
+        }
+
+        return Void.class;
+    }
+}
@@ -0,0 +1,43 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+final class OneOfKeyword extends Keyword
+{
+    private final SchemaNode[] schemas;
+
+    OneOfKeyword(SchemaNode[] schemas)
+    {
+        super("oneOf");
+
+        this.schemas = schemas;
+    }
+
+    @Override
+    <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context)
+    {
+        int matched = 0;
+
+        context.mute();
+
+        try
+        {
+            for (int i = 0; (i < schemas.length) && (matched < 2); i++)
+            {
+                if (schemas[i].validate(value, adapter, context))
+                {
+                    matched++;
+                }
+            }
+        }
+        finally
+        {
+            context.unmute();
+        }
+
+        if (matched == 1)
+        {
+            return true;
+        }
+
+        return context.fail(this, "instance failed to match exactly one schema (matched %s out of %d)", (matched == 0) ? "0" : "at least 2", schemas.length);
+    }
+}
@@ -0,0 +1,31 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import java.util.regex.Pattern;
+
+final class PatternKeyword extends Keyword
+{
+    private final Pattern pattern;
+
+    PatternKeyword(Pattern pattern)
+    {
+        super("pattern");
+
+        this.pattern = pattern;
+    }
+
+    @Override
+    <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context)
+    {
+        if (adapter.type(value) != NodeType.STRING)
+        {
+            return true;
+        }
+
+        if (pattern.matcher(adapter.stringValue(value)).find())
+        {
+            return true;
+        }
+
+        return context.fail(this, "string does not match the regex \"%s\"", pattern.pattern());
+    }
+}
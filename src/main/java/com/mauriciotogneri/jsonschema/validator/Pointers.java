@@ -0,0 +1,87 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+
+final class Pointers
+{
+    private Pointers()
+    {
+    }
+
+    static String escape(String token)
+    {
+        return token.replace("~", "~0").replace("/", "~1");
+    }
+
+    static String unescape(String token)
+    {
+        return token.replace("~1", "/").replace("~0", "~");
+    }
+
+    static String decode(String reference)
+    {
+        if (reference.indexOf('%') < 0)
+        {
+            return reference;
+        }
+
+        try
+        {
+            return URLDecoder.decode(reference.replace("+", "%2B"), "UTF-8");
+        }
+        catch (UnsupportedEncodingException | IllegalArgumentException e)
+        {
+            return reference;
+        }
+    }
+
+    static <T> T navigate(T document, String location, NodeAdapter<T> adapter)
+    {
+        if (location.equals("#"))
+        {
+            return document;
+        }
+
+        if (!location.startsWith("#/"))
+        {
+            return null;
+        }
+
+        T current = document;
+
+        for (String token : location.substring(2).split("/", -1))
+        {
+            String name = unescape(token);
+            NodeType type = adapter.type(current);
+
+            if (type == NodeType.OBJECT)
+            {
+                current = adapter.field(current, name);
+            }
+            else if (type == NodeType.ARRAY)
+            {
+                try
+                {
+                    int index = Integer.parseInt(name);
+                    current = ((index >= 0) && (index < adapter.size(current))) ? adapter.element(current, index) : null;
+                }
+                catch (NumberFormatException e)
+                {
+                    current = null;
+                }
+            }
+            else
+            {
+                current = null;
+            }
+
+            if (current == null)
+            {
+                return null;
+            }
+        }
+
+        return current;
+    }
+}
@@ -0,0 +1,121 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Pattern;
+
+final class PropertiesKeyword extends Keyword
+{
+    private final Map<String, SchemaNode> properties;
+    private final Pattern[] patterns;
+    private final SchemaNode[] patternSchemas;
+    private final boolean additionalAllowed;
+    private final SchemaNode additional;
+
+    PropertiesKeyword(Map<String, SchemaNode> properties, Pattern[] patterns, SchemaNode[] patternSchemas, boolean additionalAllowed, SchemaNode additional)
+    {
+        super("properties");
+
+        this.properties = properties;
+        this.patterns = patterns;
+        this.patternSchemas = patternSchemas;
+        this.additionalAllowed = additionalAllowed;
+        this.additional = additional;
+    }
+
+    SchemaNode property(String name)
+    {
+        return properties.get(name);
+    }
+
+    boolean hasPatterns()
+    {
+        return patterns.length > 0;
+    }
+
+    boolean additionalAllowed()
+    {
+        return additionalAllowed;
+    }
+
+    SchemaNode additional()
+    {
+        return additional;
+    }
+
+    boolean failAdditional(String name, ValidationContext context)
+    {
+        return context.fail(this, "property \"%s\" is not allowed (additionalProperties)", name);
+    }
+
+    @Override
+    <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context)
+    {
+        if (adapter.type(value) != NodeType.OBJECT)
+        {
+            return true;
+        }
+
+        boolean valid = true;
+        Iterator<Entry<String, T>> fields = adapter.fields(value);
+
+        while (fields.hasNext())
+        {
+            Entry<String, T> field = fields.next();
+
+            context.push(field.getKey());
+            boolean fieldValid = validateField(field.getKey(), field.getValue(), adapter, context);
+            context.pop();
+
+            if (!fieldValid)
+            {
+                valid = false;
+
+                if (context.stopped())
+                {
+                    return false;
+                }
+            }
+        }
+
+        return valid;
+    }
+
+    private <T> boolean validateField(String name, T value, NodeAdapter<T> adapter, ValidationContext context)
+    {
+        boolean valid = true;
+        boolean matched = false;
+
+        SchemaNode property = properties.get(name);
+
+        if (property != null)
+        {
+            matched = true;
+            valid = property.validate(value, adapter, context);
+        }
+
+        for (int i = 0; (i < patterns.length) && (valid || !context.stopped()); i++)
+        {
+            if (patterns[i].matcher(name).find())
+            {
+                matched = true;
+                valid &= patternSchemas[i].validate(value, adapter, context);
+            }
+        }
+
+        if (!matched)
+        {
+            if (additional != null)
+            {
+                valid = additional.validate(value, adapter, context);
+            }
+            else if (!additionalAllowed)
+            {
+                valid = failAdditional(name, context);
+            }
+        }
+
+        return valid;
+    }
+}
@@ -0,0 +1,70 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import java.math.BigDecimal;
+
+final class RangeKeyword extends Keyword
+{
+    private final BigDecimal limit;
+    private final double approximateLimit;
+    private final boolean exactLimit;
+    private final boolean exclusive;
+    private final boolean minimum;
+
+    private static final double MAX_EXACT_INTEGER = 9007199254740992.0;
+
+    RangeKeyword(String name, BigDecimal limit, boolean exclusive, boolean minimum)
+    {
+        super(name);
+
+        this.limit = limit;
+        this.approximateLimit = limit.doubleValue();
+        this.exactLimit = (Math.abs(approximateLimit) <= MAX_EXACT_INTEGER) && (new BigDecimal(approximateLimit).compareTo(limit) == 0);
+        this.exclusive = exclusive;
+        this.minimum = minimum;
+    }
+
+    @Override
+    <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context)
+    {
+        NodeType type = adapter.type(value);
+
+        if ((type != NodeType.INTEGER) && (type != NodeType.NUMBER))
+        {
+            return true;
+        }
+
+        int comparison = compare(value, type, adapter);
+        boolean valid;
+
+        if (minimum)
+        {
+            valid = exclusive ? (comparison > 0) : (comparison >= 0);
+        }
+        else
+        {
+            valid = exclusive ? (comparison < 0) : (comparison <= 0);
+        }
+
+        if (valid)
+        {
+            return true;
+        }
+
+        return context.fail(this, "numeric instance is %s than the required %s (%s%s)", minimum ? "lower" : "greater", minimum ? "minimum" : "maximum", exclusive ? "exclusive " : "", limit);
+    }
+
+    private <T> int compare(T value, NodeType type, NodeAdapter<T> adapter)
+    {
+        if ((type == NodeType.INTEGER) && exactLimit)
+        {
+            double number = adapter.doubleValue(value);
+
+            if (Math.abs(number) < MAX_EXACT_INTEGER)
+            {
+                return (number < approximateLimit) ? -1 : ((number > approximateLimit) ? 1 : 0);
+            }
+        }
+
+        return adapter.decimalValue(value).compareTo(limit);
+    }
+}
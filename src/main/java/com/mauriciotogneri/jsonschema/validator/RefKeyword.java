@@ -0,0 +1,52 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+final class RefKeyword extends Keyword
+{
+    private final String reference;
+    private volatile SchemaCompiler<?> compiler;
+    private volatile SchemaNode target;
+
+    RefKeyword(String reference, SchemaCompiler<?> compiler)
+    {
+        super("$ref");
+
+        this.reference = reference;
+        this.compiler = compiler;
+    }
+
+    String reference()
+    {
+        return reference;
+    }
+
+    void resolve(SchemaNode target)
+    {
+        this.target = target;
+        this.compiler = null;
+    }
+
+    SchemaNode target()
+    {
+        SchemaCompiler<?> current = compiler;
+
+        if (current != null)
+        {
+            resolve(current.resolveLazily(reference));
+        }
+
+        return target;
+    }
+
+    @Override
+    <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context)
+    {
+        SchemaNode target = target();
+
+        if (target == null)
+        {
+            return context.fail(this, "unresolvable reference \"%s\"", reference);
+        }
+
+        return target.validate(value, adapter, context);
+    }
+}
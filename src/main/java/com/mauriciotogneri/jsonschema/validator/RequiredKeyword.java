@@ -0,0 +1,49 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+final class RequiredKeyword extends Keyword
+{
+    private final String[] names;
+
+    RequiredKeyword(String[] names)
+    {
+        super("required");
+
+        this.names = names;
+    }
+
+    String[] names()
+    {
+        return names;
+    }
+
+    boolean failMissing(String name, ValidationContext context)
+    {
+        return context.fail(this, "missing required property \"%s\"", name);
+    }
+
+    @Override
+    <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context)
+    {
+        if (adapter.type(value) != NodeType.OBJECT)
+        {
+            return true;
+        }
+
+        boolean valid = true;
+
+        for (String name : names)
+        {
+            if (adapter.field(value, name) == null)
+            {
+                valid = failMissing(name, context);
+
+                if (context.stopped())
+                {
+                    return false;
+                }
+            }
+        }
+
+        return valid;
+    }
+}
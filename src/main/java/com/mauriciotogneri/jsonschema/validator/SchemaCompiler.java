@@ -0,0 +1,505 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import java.math.BigDecimal;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.regex.Pattern;
+
+final class SchemaCompiler<T>
+{
+    private final T document;
+    private final NodeAdapter<T> adapter;
+    private final Map<String, SchemaNode> nodes = new HashMap<>();
+    private final Deque<RefKeyword> references = new ArrayDeque<>();
+    private final boolean lazy;
+
+    private static final String[][] SIZES = {
+            {"minLength", "STRING", "min"},
+            {"maxLength", "STRING", "max"},
+            {"minItems", "ARRAY", "min"},
+            {"maxItems", "ARRAY", "max"},
+            {"minProperties", "OBJECT", "min"},
+            {"maxProperties", "OBJECT", "max"}
+    };
+
+    SchemaCompiler(T document, NodeAdapter<T> adapter, boolean lazy)
+    {
+        this.document = document;
+        this.adapter = adapter;
+        this.lazy = lazy;
+    }
+
+    synchronized SchemaNode compile()
+    {
+        SchemaNode root = compile(document, "#");
+
+        while (!references.isEmpty())
+        {
+            RefKeyword reference = references.poll();
+            reference.resolve(resolve(reference.reference()));
+        }
+
+        return root;
+    }
+
+    synchronized SchemaNode resolveLazily(String reference)
+    {
+        return resolve(reference);
+    }
+
+    private SchemaNode resolve(String reference)
+    {
+        String location = reference.startsWith("#") ? Pointers.decode(reference) : null;
+
+        if (location == null)
+        {
+            return null;
+        }
+
+        SchemaNode node = nodes.get(location);
+
+        if (node == null)
+        {
+            T target = Pointers.navigate(document, location, adapter);
+
+            if ((target != null) && (adapter.type(target) == NodeType.OBJECT))
+            {
+                node = compile(target, location);
+            }
+        }
+
+        return node;
+    }
+
+    private SchemaNode compile(T schema, String location)
+    {
+        if (adapter.type(schema) != NodeType.OBJECT)
+        {
+            throw new IllegalArgumentException(String.format("schema at %s is not an object", location));
+        }
+
+        SchemaNode node = new SchemaNode(location);
+        nodes.put(location, node);
+        node.keywords(keywords(schema, location));
+
+        return node;
+    }
+
+    private Keyword[] keywords(T schema, String location)
+    {
+        List<Keyword> keywords = new ArrayList<>();
+
+        T ref = adapter.field(schema, "$ref");
+
+        if ((ref != null) && (adapter.type(ref) == NodeType.STRING))
+        {
+            RefKeyword keyword = new RefKeyword(adapter.stringValue(ref), lazy ? this : null);
+
+            if (!lazy)
+            {
+                references.add(keyword);
+            }
+
+            keywords.add(keyword);
+
+            return keywords.toArray(new Keyword[keywords.size()]);
+        }
+
+        addType(schema, keywords);
+        addEnum(schema, keywords);
+        addProperties(schema, location, keywords);
+        addRequired(schema, keywords);
+        addDependencies(schema, location, keywords);
+        addItems(schema, location, keywords);
+        addSizes(schema, keywords);
+        addRange(schema, "minimum", "exclusiveMinimum", true, keywords);
+        addRange(schema, "maximum", "exclusiveMaximum", false, keywords);
+        addMultipleOf(schema, keywords);
+        addPattern(schema, keywords);
+        addFormat(schema, keywords);
+        addUniqueItems(schema, keywords);
+
+        SchemaNode[] allOf = schemas(schema, "allOf", location);
+
+        if (allOf != null)
+        {
+            keywords.add(new AllOfKeyword(allOf));
+        }
+
+        SchemaNode[] anyOf = schemas(schema, "anyOf", location);
+
+        if (anyOf != null)
+        {
+            keywords.add(new AnyOfKeyword(anyOf));
+        }
+
+        SchemaNode[] oneOf = schemas(schema, "oneOf", location);
+
+        if (oneOf != null)
+        {
+            keywords.add(new OneOfKeyword(oneOf));
+        }
+
+        T not = adapter.field(schema, "not");
+
+        if (not != null)
+        {
+            keywords.add(new NotKeyword(compile(not, location + "/not")));
+        }
+
+        return keywords.toArray(new Keyword[keywords.size()]);
+    }
+
+    private void addType(T schema, List<Keyword> keywords)
+    {
+        T type = adapter.field(schema, "type");
+
+        if (type == null)
+        {
+            return;
+        }
+
+        List<String> names = new ArrayList<>();
+
+        if (adapter.type(type) == NodeType.ARRAY)
+        {
+            for (int i = 0; i < adapter.size(type); i++)
+            {
+                names.add(adapter.stringValue(adapter.element(type, i)));
+            }
+        }
+        else
+        {
+            names.add(adapter.stringValue(type));
+        }
+
+        int mask = 0;
+
+        for (String name : names)
+        {
+            switch (name)
+            {
+                case "null":
+                    mask |= NodeType.NULL.mask();
+                    break;
+
+                case "boolean":
+                    mask |= NodeType.BOOLEAN.mask();
+                    break;
+
+                case "integer":
+                    mask |= NodeType.INTEGER.mask();
+                    break;
+
+                case "number":
+                    mask |= NodeType.NUMBER.mask();
+                    break;
+
+                case "string":
+                case "file":
+                    mask |= NodeType.STRING.mask();
+                    break;
+
+                case "array":
+                    mask |= NodeType.ARRAY.mask();
+                    break;
+
+                case "object":
+                    mask |= NodeType.OBJECT.mask();
+                    break;
+
+                case "any":
+                    mask = -1;
+                    break;
+
+                default:
+                    throw new IllegalArgumentException(String.format("unknown type \"%s\"", name));
+            }
+        }
+
+        if (mask != -1)
+        {
+            keywords.add(new TypeKeyword(mask, names.toString()));
+        }
+    }
+
+    private void addEnum(T schema, List<Keyword> keywords)
+    {
+        T values = adapter.field(schema, "enum");
+
+        if ((values != null) && (adapter.type(values) == NodeType.ARRAY))
+        {
+            List<Object> list = new ArrayList<>();
+
+            for (int i = 0; i < adapter.size(values); i++)
+            {
+                list.add(Canonical.of(adapter.element(values, i), adapter));
+            }
+
+            keywords.add(new EnumKeyword(list));
+        }
+    }
+
+    private void addProperties(T schema, String location, List<Keyword> keywords)
+    {
+        T properties = adapter.field(schema, "properties");
+        T patternProperties = adapter.field(schema, "patternProperties");
+        T additionalProperties = adapter.field(schema, "additionalProperties");
+
+        if ((properties == null) && (patternProperties == null) && (additionalProperties == null))
+        {
+            return;
+        }
+
+        Map<String, SchemaNode> nodes = new HashMap<>();
+
+        for (Entry<String, SchemaNode> entry : children(properties, location + "/properties").entrySet())
+        {
+            nodes.put(entry.getKey(), entry.getValue());
+        }
+
+        Map<String, SchemaNode> patterns = children(patternProperties, location + "/patternProperties");
+        Pattern[] regexes = new Pattern[patterns.size()];
+        SchemaNode[] patternSchemas = new SchemaNode[patterns.size()];
+        int index = 0;
+
+        for (Entry<String, SchemaNode> entry : patterns.entrySet())
+        {
+            regexes[index] = Pattern.compile(entry.getKey());
+            patternSchemas[index] = entry.getValue();
+            index++;
+        }
+
+        boolean additionalAllowed = true;
+        SchemaNode additional = null;
+
+        if (additionalProperties != null)
+        {
+            if (adapter.type(additionalProperties) == NodeType.BOOLEAN)
+            {
+                additionalAllowed = adapter.booleanValue(additionalProperties);
+            }
+            else
+            {
+                additional = compile(additionalProperties, location + "/additionalProperties");
+            }
+        }
+
+        keywords.add(new PropertiesKeyword(nodes, regexes, patternSchemas, additionalAllowed, additional));
+    }
+
+    private void addRequired(T schema, List<Keyword> keywords)
+    {
+        T required = adapter.field(schema, "required");
+
+        if ((required != null) && (adapter.type(required) == NodeType.ARRAY) && (adapter.size(required) > 0))
+        {
+            keywords.add(new RequiredKeyword(strings(required)));
+        }
+    }
+
+    private void addDependencies(T schema, String location, List<Keyword> keywords)
+    {
+        T dependencies = adapter.field(schema, "dependencies");
+
+        if ((dependencies == null) || (adapter.type(dependencies) != NodeType.OBJECT))
+        {
+            return;
+        }
+
+        Map<String, String[]> properties = new LinkedHashMap<>();
+        Map<String, SchemaNode> schemas = new LinkedHashMap<>();
+        Iterator<Entry<String, T>> fields = adapter.fields(dependencies);
+
+        while (fields.hasNext())
+        {
+            Entry<String, T> field = fields.next();
+
+            if (adapter.type(field.getValue()) == NodeType.ARRAY)
+            {
+                properties.put(field.getKey(), strings(field.getValue()));
+            }
+            else if (adapter.type(field.getValue()) == NodeType.STRING)
+            {
+                properties.put(field.getKey(), new String[] {adapter.stringValue(field.getValue())});
+            }
+            else
+            {
+                schemas.put(field.getKey(), compile(field.getValue(), location + "/dependencies/" + Pointers.escape(field.getKey())));
+            }
+        }
+
+        keywords.add(new DependenciesKeyword(properties, schemas));
+    }
+
+    private void addItems(T schema, String location, List<Keyword> keywords)
+    {
+        T items = adapter.field(schema, "items");
+
+        if (items == null)
+        {
+            return;
+        }
+
+        if (adapter.type(items) == NodeType.ARRAY)
+        {
+            SchemaNode[] tuple = schemas(schema, "items", location);
+
+            boolean additionalAllowed = true;
+            SchemaNode additional = null;
+            T additionalItems = adapter.field(schema, "additionalItems");
+
+            if (additionalItems != null)
+            {
+                if (adapter.type(additionalItems) == NodeType.BOOLEAN)
+                {
+                    additionalAllowed = adapter.booleanValue(additionalItems);
+                }
+                else
+                {
+                    additional = compile(additionalItems, location + "/additionalItems");
+                }
+            }
+
+            keywords.add(new ItemsKeyword(null, tuple, additionalAllowed, additional));
+        }
+        else
+        {
+            keywords.add(new ItemsKeyword(compile(items, location + "/items"), new SchemaNode[0], true, null));
+        }
+    }
+
+    private void addSizes(T schema, List<Keyword> keywords)
+    {
+        for (String[] size : SIZES)
+        {
+            T limit = adapter.field(schema, size[0]);
+
+            if (limit != null)
+            {
+                keywords.add(new SizeKeyword(size[0], NodeType.valueOf(size[1]), adapter.decimalValue(limit).intValue(), size[2].equals("min")));
+            }
+        }
+    }
+
+    private void addRange(T schema, String name, String exclusiveName, boolean minimum, List<Keyword> keywords)
+    {
+        T limit = adapter.field(schema, name);
+
+        if (limit != null)
+        {
+            T exclusive = adapter.field(schema, exclusiveName);
+            boolean isExclusive = (exclusive != null) && (adapter.type(exclusive) == NodeType.BOOLEAN) && adapter.booleanValue(exclusive);
+
+            keywords.add(new RangeKeyword(name, adapter.decimalValue(limit), isExclusive, minimum));
+        }
+    }
+
+    private void addMultipleOf(T schema, List<Keyword> keywords)
+    {
+        T multipleOf = adapter.field(schema, "multipleOf");
+
+        if (multipleOf != null)
+        {
+            BigDecimal divisor = adapter.decimalValue(multipleOf);
+
+            if (divisor.signum() <= 0)
+            {
+                throw new IllegalArgumentException("multipleOf must be strictly greater than 0");
+            }
+
+            keywords.add(new MultipleOfKeyword(divisor));
+        }
+    }
+
+    private void addPattern(T schema, List<Keyword> keywords)
+    {
+        T pattern = adapter.field(schema, "pattern");
+
+        if (pattern != null)
+        {
+            keywords.add(new PatternKeyword(Pattern.compile(adapter.stringValue(pattern))));
+        }
+    }
+
+    private void addFormat(T schema, List<Keyword> keywords)
+    {
+        T format = adapter.field(schema, "format");
+
+        if ((format != null) && (adapter.type(format) == NodeType.STRING))
+        {
+            FormatKeyword keyword = FormatKeyword.of(adapter.stringValue(format));
+
+            if (keyword != null)
+            {
+                keywords.add(keyword);
+            }
+        }
+    }
+
+    private void addUniqueItems(T schema, List<Keyword> keywords)
+    {
+        T uniqueItems = adapter.field(schema, "uniqueItems");
+
+        if ((uniqueItems != null) && (adapter.type(uniqueItems) == NodeType.BOOLEAN) && adapter.booleanValue(uniqueItems))
+        {
+            keywords.add(new UniqueItemsKeyword());
+        }
+    }
+
+    private SchemaNode[] schemas(T schema, String name, String location)
+    {
+        T list = adapter.field(schema, name);
+
+        if ((list == null) || (adapter.type(list) != NodeType.ARRAY))
+        {
+            return null;
+        }
+
+        SchemaNode[] result = new SchemaNode[adapter.size(list)];
+
+        for (int i = 0; i < result.length; i++)
+        {
+            result[i] = compile(adapter.element(list, i), location + "/" + name + "/" + i);
+        }
+
+        return result;
+    }
+
+    private Map<String, SchemaNode> children(T object, String location)
+    {
+        Map<String, SchemaNode> result = new LinkedHashMap<>();
+
+        if (object != null)
+        {
+            Iterator<Entry<String, T>> fields = adapter.fields(object);
+
+            while (fields.hasNext())
+            {
+                Entry<String, T> field = fields.next();
+                result.put(field.getKey(), compile(field.getValue(), location + "/" + Pointers.escape(field.getKey())));
+            }
+        }
+
+        return result;
+    }
+
+    private String[] strings(T array)
+    {
+        String[] result = new String[adapter.size(array)];
+
+        for (int i = 0; i < result.length; i++)
+        {
+            result[i] = adapter.stringValue(adapter.element(array, i));
+        }
+
+        return result;
+    }
+}
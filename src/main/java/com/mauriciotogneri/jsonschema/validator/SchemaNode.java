@@ -0,0 +1,78 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+final class SchemaNode
+{
+    private final String location;
+    private Keyword[] keywords = new Keyword[0];
+
+    SchemaNode(String location)
+    {
+        this.location = location;
+    }
+
+    String location()
+    {
+        return location;
+    }
+
+    Keyword[] keywords()
+    {
+        return keywords;
+    }
+
+    void keywords(Keyword[] keywords)
+    {
+        this.keywords = keywords;
+    }
+
+    <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context)
+    {
+        ValidationMetrics metrics = context.metrics();
+
+        if (metrics != null)
+        {
+            return validate(value, adapter, context, metrics);
+        }
+
+        boolean valid = true;
+
+        for (Keyword keyword : keywords)
+        {
+            if (!keyword.validate(value, adapter, context))
+            {
+                valid = false;
+
+                if (context.stopped())
+                {
+                    return false;
+                }
+            }
+        }
+
+        return valid;
+    }
+
+    private <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context, ValidationMetrics metrics)
+    {
+        boolean valid = true;
+
+        for (Keyword keyword : keywords)
+        {
+            long start = System.nanoTime();
+            boolean result = keyword.validate(value, adapter, context);
+            metrics.onKeyword(keyword.name(), location, System.nanoTime() - start, result);
+
+            if (!result)
+            {
+                valid = false;
+
+                if (context.stopped())
+                {
+                    return false;
+                }
+            }
+        }
+
+        return valid;
+    }
+}
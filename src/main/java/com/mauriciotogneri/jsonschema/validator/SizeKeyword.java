@@ -0,0 +1,55 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+final class SizeKeyword extends Keyword
+{
+    private final NodeType type;
+    private final int limit;
+    private final boolean minimum;
+
+    SizeKeyword(String name, NodeType type, int limit, boolean minimum)
+    {
+        super(name);
+
+        this.type = type;
+        this.limit = limit;
+        this.minimum = minimum;
+    }
+
+    boolean appliesTo(NodeType type)
+    {
+        return this.type == type;
+    }
+
+    @Override
+    <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context)
+    {
+        if (adapter.type(value) != type)
+        {
+            return true;
+        }
+
+        int size;
+
+        if (type == NodeType.STRING)
+        {
+            String string = adapter.stringValue(value);
+            size = string.codePointCount(0, string.length());
+        }
+        else
+        {
+            size = adapter.size(value);
+        }
+
+        return check(size, context);
+    }
+
+    boolean check(int size, ValidationContext context)
+    {
+        if (minimum ? (size >= limit) : (size <= limit))
+        {
+            return true;
+        }
+
+        return context.fail(this, "size (%d) is %s than %s allowed (%d)", size, minimum ? "lower" : "greater", minimum ? "minimum" : "maximum", limit);
+    }
+}
@@ -0,0 +1,357 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+
+final class StreamValidator
+{
+    private final JsonReader reader;
+    private final ValidationContext context;
+    private final JsonParser parser = new JsonParser();
+
+    StreamValidator(JsonReader reader, ValidationContext context)
+    {
+        this.reader = reader;
+        this.context = context;
+    }
+
+    boolean validateDocument(SchemaNode schema) throws IOException
+    {
+        boolean valid = validate(schema);
+
+        if ((valid || !context.stopped()) && (reader.peek() != JsonToken.END_DOCUMENT))
+        {
+            throw new IOException("JSON document contains more than one top-level value");
+        }
+
+        return valid;
+    }
+
+    private boolean validate(SchemaNode schema) throws IOException
+    {
+        schema = follow(schema);
+
+        JsonToken token = reader.peek();
+
+        if ((token == JsonToken.BEGIN_OBJECT) && streamable(schema, NodeType.OBJECT))
+        {
+            return validateObject(schema);
+        }
+        else if ((token == JsonToken.BEGIN_ARRAY) && streamable(schema, NodeType.ARRAY))
+        {
+            return validateArray(schema);
+        }
+        else
+        {
+            return schema.validate(read(), GsonAdapter.INSTANCE, context);
+        }
+    }
+
+    private SchemaNode follow(SchemaNode schema)
+    {
+        SchemaNode current = schema;
+
+        for (int i = 0; i < 32; i++)
+        {
+            Keyword[] keywords = current.keywords();
+
+            if ((keywords.length == 1) && (keywords[0] instanceof RefKeyword) && (((RefKeyword) keywords[0]).target() != null))
+            {
+                current = ((RefKeyword) keywords[0]).target();
+            }
+            else
+            {
+                return current;
+            }
+        }
+
+        return schema;
+    }
+
+    private boolean streamable(SchemaNode schema, NodeType type)
+    {
+        for (Keyword keyword : schema.keywords())
+        {
+            if (keyword instanceof PropertiesKeyword)
+            {
+                if ((type == NodeType.OBJECT) && ((PropertiesKeyword) keyword).hasPatterns())
+                {
+                    return false;
+                }
+            }
+            else if (!(keyword instanceof TypeKeyword)
+                    && !(keyword instanceof RequiredKeyword)
+                    && !(keyword instanceof ItemsKeyword)
+                    && !(keyword instanceof SizeKeyword)
+                    && !(keyword instanceof RangeKeyword)
+                    && !(keyword instanceof MultipleOfKeyword)
+                    && !(keyword instanceof PatternKeyword)
+                    && !(keyword instanceof FormatKeyword))
+            {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean validateObject(SchemaNode schema) throws IOException
+    {
+        boolean valid = checkType(schema, NodeType.OBJECT);
+
+        if (!valid && context.stopped())
+        {
+            return false;
+        }
+
+        PropertiesKeyword properties = null;
+        RequiredKeyword required = null;
+
+        for (Keyword keyword : schema.keywords())
+        {
+            if (keyword instanceof PropertiesKeyword)
+            {
+                properties = (PropertiesKeyword) keyword;
+            }
+            else if (keyword instanceof RequiredKeyword)
+            {
+                required = (RequiredKeyword) keyword;
+            }
+        }
+
+        String[] names = (required != null) ? required.names() : new String[0];
+        boolean[] present = new boolean[names.length];
+        boolean propertiesValid = true;
+        int count = 0;
+        long start = start();
+
+        reader.beginObject();
+
+        while (reader.hasNext())
+        {
+            String name = reader.nextName();
+            count++;
+
+            for (int i = 0; i < names.length; i++)
+            {
+                if (names[i].equals(name))
+                {
+                    present[i] = true;
+                }
+            }
+
+            context.push(name);
+            boolean fieldValid = validateField(properties, name);
+            context.pop();
+
+            if (!fieldValid)
+            {
+                propertiesValid = false;
+
+                if (context.stopped())
+                {
+                    record(properties, schema, start, false);
+
+                    return false;
+                }
+            }
+        }
+
+        reader.endObject();
+        record(properties, schema, start, propertiesValid);
+
+        boolean requiredValid = true;
+        start = start();
+
+        for (int i = 0; i < names.length; i++)
+        {
+            if (!present[i])
+            {
+                requiredValid = required.failMissing(names[i], context);
+
+                if (context.stopped())
+                {
+                    record(required, schema, start, false);
+
+                    return false;
+                }
+            }
+        }
+
+        record(required, schema, start, requiredValid);
+
+        return checkSize(schema, NodeType.OBJECT, count) && valid && propertiesValid && requiredValid;
+    }
+
+    private boolean validateField(PropertiesKeyword properties, String name) throws IOException
+    {
+        if (properties == null)
+        {
+            reader.skipValue();
+
+            return true;
+        }
+
+        SchemaNode property = properties.property(name);
+
+        if (property != null)
+        {
+            return validate(property);
+        }
+        else if (properties.additional() != null)
+        {
+            return validate(properties.additional());
+        }
+        else
+        {
+            reader.skipValue();
+
+            return properties.additionalAllowed() || properties.failAdditional(name, context);
+        }
+    }
+
+    private boolean validateArray(SchemaNode schema) throws IOException
+    {
+        boolean valid = checkType(schema, NodeType.ARRAY);
+
+        if (!valid && context.stopped())
+        {
+            return false;
+        }
+
+        ItemsKeyword items = null;
+
+        for (Keyword keyword : schema.keywords())
+        {
+            if (keyword instanceof ItemsKeyword)
+            {
+                items = (ItemsKeyword) keyword;
+            }
+        }
+
+        boolean itemsValid = true;
+        int count = 0;
+        long start = start();
+
+        reader.beginArray();
+
+        while (reader.hasNext())
+        {
+            int index = count++;
+            boolean itemValid = true;
+
+            if (items == null)
+            {
+                reader.skipValue();
+            }
+            else if (!items.allows(index))
+            {
+                reader.skipValue();
+
+                if (items.allows(index - 1))
+                {
+                    itemValid = items.failAdditional(context);
+                }
+            }
+            else if (items.item(index) == null)
+            {
+                reader.skipValue();
+            }
+            else
+            {
+                context.push(index);
+                itemValid = validate(items.item(index));
+                context.pop();
+            }
+
+            if (!itemValid)
+            {
+                itemsValid = false;
+
+                if (context.stopped())
+                {
+                    record(items, schema, start, false);
+
+                    return false;
+                }
+            }
+        }
+
+        reader.endArray();
+        record(items, schema, start, itemsValid);
+
+        return checkSize(schema, NodeType.ARRAY, count) && valid && itemsValid;
+    }
+
+    private boolean checkType(SchemaNode schema, NodeType type)
+    {
+        for (Keyword keyword : schema.keywords())
+        {
+            if (keyword instanceof TypeKeyword)
+            {
+                long start = start();
+                boolean valid = ((TypeKeyword) keyword).check(type, context);
+                record(keyword, schema, start, valid);
+
+                return valid;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean checkSize(SchemaNode schema, NodeType type, int size)
+    {
+        boolean valid = true;
+
+        for (Keyword keyword : schema.keywords())
+        {
+            if ((keyword instanceof SizeKeyword) && ((SizeKeyword) keyword).appliesTo(type))
+            {
+                long start = start();
+                boolean result = ((SizeKeyword) keyword).check(size, context);
+                record(keyword, schema, start, result);
+                valid &= result;
+
+                if (!valid && context.stopped())
+                {
+                    return false;
+                }
+            }
+        }
+
+        return valid;
+    }
+
+    private long start()
+    {
+        return (context.metrics() != null) ? System.nanoTime() : 0;
+    }
+
+    private void record(Keyword keyword, SchemaNode schema, long start, boolean valid)
+    {
+        ValidationMetrics metrics = context.metrics();
+
+        if ((metrics != null) && (keyword != null))
+        {
+            metrics.onKeyword(keyword.name(), schema.location(), System.nanoTime() - start, valid);
+        }
+    }
+
+    private JsonElement read() throws IOException
+    {
+        try
+        {
+            return parser.parse(reader);
+        }
+        catch (JsonParseException e)
+        {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+final class TypeKeyword extends Keyword
+{
+    private final int mask;
+    private final String allowed;
+
+    TypeKeyword(int mask, String allowed)
+    {
+        super("type");
+
+        this.mask = mask;
+        this.allowed = allowed;
+    }
+
+    @Override
+    <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context)
+    {
+        return check(adapter.type(value), context);
+    }
+
+    boolean check(NodeType type, ValidationContext context)
+    {
+        int bit = (type == NodeType.INTEGER) ? (type.mask() | NodeType.NUMBER.mask()) : type.mask();
+
+        if ((mask & bit) != 0)
+        {
+            return true;
+        }
+
+        return context.fail(this, "instance type (%s) does not match any allowed primitive type (allowed: %s)", type, allowed);
+    }
+}
@@ -0,0 +1,34 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import java.util.HashSet;
+import java.util.Set;
+
+final class UniqueItemsKeyword extends Keyword
+{
+    UniqueItemsKeyword()
+    {
+        super("uniqueItems");
+    }
+
+    @Override
+    <T> boolean validate(T value, NodeAdapter<T> adapter, ValidationContext context)
+    {
+        if (adapter.type(value) != NodeType.ARRAY)
+        {
+            return true;
+        }
+
+        int size = adapter.size(value);
+        Set<Object> seen = new HashSet<>();
+
+        for (int i = 0; i < size; i++)
+        {
+            if (!seen.add(Canonical.of(adapter.element(value, i), adapter)))
+            {
+                return context.fail(this, "array must not contain duplicate elements (element %d)", i);
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,177 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import java.util.Arrays;
+
+final class ValidationContext
+{
+    private final ErrorListener listener;
+    private final int maxErrors;
+    private int errors = 0;
+    private int suppressed = 0;
+    private String[] names = new String[16];
+    private int[] indexes = new int[16];
+    private int depth = 0;
+    private int muted = 0;
+    private ValidationMetrics metrics = null;
+
+    ValidationContext(ErrorListener listener)
+    {
+        this(listener, Integer.MAX_VALUE);
+    }
+
+    ValidationContext(ErrorListener listener, int maxErrors)
+    {
+        this.listener = listener;
+        this.maxErrors = maxErrors;
+    }
+
+    static ValidationContext capped(ErrorListener listener, int maxErrors)
+    {
+        if (maxErrors < 1)
+        {
+            throw new IllegalArgumentException("maximum errors must be at least 1");
+        }
+
+        return new ValidationContext(listener, maxErrors);
+    }
+
+    static ValidationContext failFast()
+    {
+        ValidationContext context = new ValidationContext(null, 0);
+        context.mute();
+
+        return context;
+    }
+
+    ValidationContext instrument(ValidationMetrics metrics)
+    {
+        this.metrics = metrics;
+
+        return this;
+    }
+
+    ValidationMetrics metrics()
+    {
+        return metrics;
+    }
+
+    void push(String name)
+    {
+        grow();
+        names[depth] = name;
+        depth++;
+    }
+
+    void push(int index)
+    {
+        grow();
+        names[depth] = null;
+        indexes[depth] = index;
+        depth++;
+    }
+
+    void pop()
+    {
+        depth--;
+        names[depth] = null;
+    }
+
+    private void grow()
+    {
+        if (depth == names.length)
+        {
+            names = Arrays.copyOf(names, depth * 2);
+            indexes = Arrays.copyOf(indexes, depth * 2);
+        }
+    }
+
+    String pointer()
+    {
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < depth; i++)
+        {
+            builder.append('/');
+
+            if (names[i] != null)
+            {
+                builder.append(names[i].replace("~", "~0").replace("/", "~1"));
+            }
+            else
+            {
+                builder.append(indexes[i]);
+            }
+        }
+
+        return builder.toString();
+    }
+
+    void mute()
+    {
+        muted++;
+    }
+
+    void unmute()
+    {
+        muted--;
+    }
+
+    boolean fail(Keyword keyword, String message)
+    {
+        return fail(keyword.name(), message);
+    }
+
+    boolean fail(Keyword keyword, String format, Object... arguments)
+    {
+        return fail(keyword.name(), format, arguments);
+    }
+
+    boolean fail(String keyword, String message)
+    {
+        if (delivers())
+        {
+            deliver(keyword, message);
+        }
+        else if (muted == 0)
+        {
+            suppressed++;
+        }
+
+        return false;
+    }
+
+    boolean fail(String keyword, String format, Object... arguments)
+    {
+        if (delivers())
+        {
+            deliver(keyword, String.format(format, arguments));
+        }
+        else if (muted == 0)
+        {
+            suppressed++;
+        }
+
+        return false;
+    }
+
+    private boolean delivers()
+    {
+        return (muted == 0) && (errors < maxErrors);
+    }
+
+    private void deliver(String keyword, String message)
+    {
+        errors++;
+        listener.onError(new ValidationError(pointer(), keyword, message));
+    }
+
+    boolean stopped()
+    {
+        return (muted > 0) || (suppressed > 0);
+    }
+
+    boolean truncated()
+    {
+        return suppressed > 0;
+    }
+}
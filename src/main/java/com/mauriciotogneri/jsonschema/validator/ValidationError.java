@@ -0,0 +1,36 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+public class ValidationError
+{
+    private final String pointer;
+    private final String keyword;
+    private final String message;
+
+    public ValidationError(String pointer, String keyword, String message)
+    {
+        this.pointer = pointer;
+        this.keyword = keyword;
+        this.message = message;
+    }
+
+    public String pointer()
+    {
+        return pointer;
+    }
+
+    public String keyword()
+    {
+        return keyword;
+    }
+
+    public String message()
+    {
+        return message;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("%s: [%s] %s", pointer.isEmpty() ? "/" : pointer, keyword, message);
+    }
+}
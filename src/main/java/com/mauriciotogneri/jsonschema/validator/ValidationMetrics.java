@@ -0,0 +1,6 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+public interface ValidationMetrics
+{
+    void onKeyword(String keyword, String location, long nanos, boolean valid);
+}
@@ -0,0 +1,69 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+public class ValidationReport implements Iterable<ValidationError>
+{
+    private final List<ValidationError> errors;
+    private final boolean success;
+    private final boolean truncated;
+
+    public ValidationReport(List<ValidationError> errors)
+    {
+        this(errors, errors.isEmpty(), false);
+    }
+
+    public ValidationReport(List<ValidationError> errors, boolean success, boolean truncated)
+    {
+        this.errors = errors.isEmpty() ? Collections.<ValidationError>emptyList() : Collections.unmodifiableList(new ArrayList<>(errors));
+        this.success = success;
+        this.truncated = truncated;
+    }
+
+    public boolean isSuccess()
+    {
+        return success;
+    }
+
+    public boolean isTruncated()
+    {
+        return truncated;
+    }
+
+    public List<ValidationError> errors()
+    {
+        return errors;
+    }
+
+    @Override
+    public Iterator<ValidationError> iterator()
+    {
+        return errors.iterator();
+    }
+
+    @Override
+    public String toString()
+    {
+        if (success)
+        {
+            return "success";
+        }
+
+        StringBuilder builder = new StringBuilder();
+
+        for (ValidationError error : errors)
+        {
+            if (builder.length() > 0)
+            {
+                builder.append('\n');
+            }
+
+            builder.append(error);
+        }
+
+        return builder.toString();
+    }
+}
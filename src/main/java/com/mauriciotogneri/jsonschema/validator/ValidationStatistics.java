@@ -0,0 +1,90 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+public class ValidationStatistics implements ValidationMetrics, ValidationStatisticsMXBean
+{
+    private final ConcurrentMap<String, KeywordStatistics> keywords = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, KeywordStatistics> locations = new ConcurrentHashMap<>();
+
+    public static final String DOMAIN = "com.mauriciotogneri.jsonschema";
+
+    @Override
+    public void onKeyword(String keyword, String location, long nanos, boolean valid)
+    {
+        statistics(keywords, keyword).record(nanos, valid);
+        statistics(locations, location + "/" + keyword).record(nanos, valid);
+    }
+
+    private static KeywordStatistics statistics(ConcurrentMap<String, KeywordStatistics> map, String key)
+    {
+        KeywordStatistics statistics = map.get(key);
+
+        if (statistics == null)
+        {
+            KeywordStatistics created = new KeywordStatistics();
+            statistics = map.putIfAbsent(key, created);
+
+            if (statistics == null)
+            {
+                statistics = created;
+            }
+        }
+
+        return statistics;
+    }
+
+    @Override
+    public Map<String, KeywordStatistics> getKeywords()
+    {
+        return new TreeMap<>(keywords);
+    }
+
+    @Override
+    public Map<String, KeywordStatistics> getLocations()
+    {
+        return new TreeMap<>(locations);
+    }
+
+    @Override
+    public void reset()
+    {
+        keywords.clear();
+        locations.clear();
+    }
+
+    public ObjectName register(String name) throws JMException
+    {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName objectName = new ObjectName(String.format("%s:type=ValidationStatistics,name=%s", DOMAIN, ObjectName.quote(name)));
+        server.registerMBean(this, objectName);
+
+        return objectName;
+    }
+
+    public void unregister(ObjectName objectName) throws JMException
+    {
+        ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+    }
+
+    @Override
+    public String toString()
+    {
+        StringBuilder builder = new StringBuilder();
+
+        for (Map.Entry<String, KeywordStatistics> entry : getKeywords().entrySet())
+        {
+            builder.append(String.format("%s: %s%n", entry.getKey(), entry.getValue()));
+        }
+
+        return builder.toString();
+    }
+}
@@ -0,0 +1,12 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import java.util.Map;
+
+public interface ValidationStatisticsMXBean
+{
+    Map<String, KeywordStatistics> getKeywords();
+
+    Map<String, KeywordStatistics> getLocations();
+
+    void reset();
+}
@@ -0,0 +1,149 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.mauriciotogneri.jsonschema.annotations.Optional;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class GenerationTracerTest
+{
+    public static class Order
+    {
+        public String id;
+        public Line[] lines;
+
+        @Optional
+        public Customer customer;
+    }
+
+    public static class Line
+    {
+        public String product;
+        public int quantity;
+    }
+
+    public static class Customer
+    {
+        public String name;
+    }
+
+    @Test
+    public void doesNotCountNestedSpansTwice()
+    {
+        long start = System.nanoTime();
+        GenerationTracer tracer = GenerationTracer.start();
+
+        try
+        {
+            new JsonSchema(Order.class).schema();
+        }
+        finally
+        {
+            tracer.stop();
+        }
+
+        long elapsed = System.nanoTime() - start;
+        List<GenerationTracer.Span> spans = tracer.spans();
+        long self = 0;
+
+        assertFalse(spans.isEmpty());
+
+        for (GenerationTracer.Span span : spans)
+        {
+            assertTrue(span.selfNanos() <= span.nanos());
+            self += span.selfNanos();
+        }
+
+        assertTrue(self <= elapsed);
+
+        String summary = tracer.summary();
+
+        assertTrue(summary, summary.contains(GenerationTracer.FILL_OBJECT));
+        assertTrue(summary, summary.contains("self (ms)"));
+        assertTrue(summary, summary.contains(Order.class.getCanonicalName()));
+    }
+
+    @Test
+    public void writesChromeTrace() throws IOException
+    {
+        GenerationTracer tracer = GenerationTracer.start();
+
+        try
+        {
+            new JsonSchema(Order.class).schema();
+        }
+        finally
+        {
+            tracer.stop();
+        }
+
+        StringWriter writer = new StringWriter();
+        tracer.writeChromeTrace(writer);
+
+        JsonObject trace = new JsonParser().parse(writer.toString()).getAsJsonObject();
+        JsonArray events = trace.getAsJsonArray("traceEvents");
+        Set<String> phases = new HashSet<>(Arrays.asList(GenerationTracer.SCHEMA, GenerationTracer.FIELDS, GenerationTracer.ANNOTATIONS, GenerationTracer.ADD_TYPE, GenerationTracer.FILL_OBJECT, GenerationTracer.FILL_ARRAY, GenerationTracer.APPLY_ANNOTATIONS));
+
+        assertEquals(tracer.spans().size(), events.size());
+
+        for (JsonElement element : events)
+        {
+            JsonObject event = element.getAsJsonObject();
+
+            assertEquals("X", event.get("ph").getAsString());
+            assertTrue(phases.contains(event.get("name").getAsString()));
+            assertTrue(event.get("dur").getAsDouble() >= event.getAsJsonObject("args").get("selfDuration").getAsDouble());
+            assertTrue(event.getAsJsonObject("args").has("type"));
+        }
+    }
+
+    @Test
+    public void restoresAllocationTrackingOnStop()
+    {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean))
+        {
+            return;
+        }
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+        if (!threads.isThreadAllocatedMemorySupported())
+        {
+            return;
+        }
+
+        boolean enabled = threads.isThreadAllocatedMemoryEnabled();
+
+        try
+        {
+            threads.setThreadAllocatedMemoryEnabled(false);
+
+            GenerationTracer tracer = GenerationTracer.start();
+
+            assertTrue(threads.isThreadAllocatedMemoryEnabled());
+
+            tracer.stop();
+
+            assertFalse(threads.isThreadAllocatedMemoryEnabled());
+        }
+        finally
+        {
+            threads.setThreadAllocatedMemoryEnabled(enabled);
+        }
+    }
+}
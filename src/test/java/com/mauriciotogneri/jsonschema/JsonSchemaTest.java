@@ -0,0 +1,180 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.google.gson.JsonObject;
+import com.mauriciotogneri.jsonschema.annotations.Optional;
+
+import org.junit.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JsonSchemaTest
+{
+    public static class PartA
+    {
+        @Optional
+        public PartB next;
+    }
+
+    public static class PartB
+    {
+        @Optional
+        public PartC next;
+    }
+
+    public static class PartC
+    {
+        @Optional
+        public PartD next;
+    }
+
+    public static class PartD
+    {
+        @Optional
+        public PartE next;
+    }
+
+    public static class PartE
+    {
+        @Optional
+        public PartF next;
+    }
+
+    public static class PartF
+    {
+        @Optional
+        public PartG next;
+    }
+
+    public static class PartG
+    {
+        @Optional
+        public PartH next;
+    }
+
+    public static class PartH
+    {
+        @Optional
+        public PartI next;
+    }
+
+    public static class PartI
+    {
+        @Optional
+        public PartJ next;
+    }
+
+    public static class PartJ
+    {
+        @Optional
+        public PartK next;
+    }
+
+    public static class PartK
+    {
+        @Optional
+        public PartL next;
+    }
+
+    public static class PartL
+    {
+        @Optional
+        public PartM next;
+    }
+
+    public static class PartM
+    {
+        @Optional
+        public PartN next;
+    }
+
+    public static class PartN
+    {
+        @Optional
+        public PartO next;
+    }
+
+    public static class PartO
+    {
+        @Optional
+        public PartP next;
+    }
+
+    public static class PartP
+    {
+        @Optional
+        public PartQ next;
+    }
+
+    public static class PartQ
+    {
+        @Optional
+        public PartR next;
+    }
+
+    public static class PartR
+    {
+        public String value;
+    }
+
+    public static class Assembly
+    {
+        public PartA partA;
+
+        public PartB partB;
+
+        public PartC partC;
+
+        public PartD partD;
+
+        public PartE partE;
+
+        public PartF partF;
+
+        public PartG partG;
+
+        public PartH partH;
+
+        public PartI partI;
+
+        public PartJ partJ;
+
+        public PartK partK;
+
+        public PartL partL;
+
+        public PartM partM;
+
+        public PartN partN;
+
+        public PartO partO;
+
+        public PartP partP;
+
+        public PartQ partQ;
+
+        public PartR partR;
+    }
+
+    @Test
+    public void buildsTheSameSchemaInParallel()
+    {
+        JsonSchema schema = new JsonSchema(Assembly.class);
+        JsonObject expected = schema.schema();
+        ForkJoinPool pool = new ForkJoinPool(4);
+
+        try
+        {
+            JsonObject actual = schema.schema(pool);
+
+            assertTrue(actual.getAsJsonObject("definitions").size() > 16);
+            assertEquals(expected, actual);
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+    }
+}
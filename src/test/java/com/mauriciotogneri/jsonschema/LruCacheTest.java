@@ -0,0 +1,170 @@
+package com.mauriciotogneri.jsonschema;
+
+import org.junit.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class LruCacheTest
+{
+    @Test
+    public void evictsLeastRecentlyUsedEntries() throws Exception
+    {
+        LruCache<String, String> cache = new LruCache<>(2);
+        cache.get("a", value("A"));
+        cache.get("b", value("B"));
+        cache.get("a", value("unused"));
+        cache.get("c", value("C"));
+
+        assertEquals(2, cache.size());
+        assertEquals("A", cache.getIfPresent("a"));
+        assertNull(cache.getIfPresent("b"));
+        assertEquals("C", cache.getIfPresent("c"));
+        assertEquals(1, cache.evictions());
+    }
+
+    @Test
+    public void boundsEntriesByWeight() throws Exception
+    {
+        LruCache<String, String> cache = new LruCache<>(10, new LruCache.Weigher<String, String>()
+        {
+            @Override
+            public long weigh(String key, String value)
+            {
+                return value.length();
+            }
+        });
+
+        cache.put("a", "12345");
+        cache.put("b", "1234");
+        assertEquals(9, cache.weight());
+
+        cache.put("c", "123");
+
+        assertEquals(7, cache.weight());
+        assertNull(cache.getIfPresent("a"));
+
+        cache.put("b", "1");
+
+        assertEquals(4, cache.weight());
+    }
+
+    @Test
+    public void loadsEachKeyOnceUnderContention() throws Exception
+    {
+        final LruCache<String, Integer> cache = new LruCache<>(8);
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try
+        {
+            Future<?>[] futures = new Future<?>[32];
+
+            for (int i = 0; i < futures.length; i++)
+            {
+                futures[i] = executor.submit(new Callable<Integer>()
+                {
+                    @Override
+                    public Integer call() throws Exception
+                    {
+                        start.await();
+
+                        return cache.get("key", new Callable<Integer>()
+                        {
+                            @Override
+                            public Integer call() throws InterruptedException
+                            {
+                                Thread.sleep(20);
+
+                                return loads.incrementAndGet();
+                            }
+                        });
+                    }
+                });
+            }
+
+            start.countDown();
+
+            for (Future<?> future : futures)
+            {
+                assertEquals(1, future.get(10, TimeUnit.SECONDS));
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.loads());
+        assertEquals(1, cache.misses());
+        assertEquals(31, cache.hits());
+    }
+
+    @Test
+    public void doesNotCacheFailedLoads() throws Exception
+    {
+        LruCache<String, String> cache = new LruCache<>(2);
+
+        try
+        {
+            cache.get("a", new Callable<String>()
+            {
+                @Override
+                public String call()
+                {
+                    throw new IllegalStateException("failed");
+                }
+            });
+            fail();
+        }
+        catch (ExecutionException e)
+        {
+            assertEquals(IllegalStateException.class, e.getCause().getClass());
+        }
+
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.loadFailures());
+        assertEquals("A", cache.get("a", value("A")));
+    }
+
+    @Test
+    public void invalidatesEntries() throws Exception
+    {
+        LruCache<String, String> cache = new LruCache<>(4);
+        cache.get("a", value("A"));
+        cache.get("b", value("B"));
+        cache.invalidate("a");
+
+        assertEquals(1, cache.size());
+        assertEquals(1, cache.weight());
+
+        cache.invalidateAll();
+
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.weight());
+    }
+
+    private static Callable<String> value(final String value)
+    {
+        return new Callable<String>()
+        {
+            @Override
+            public String call()
+            {
+                return value;
+            }
+        };
+    }
+}
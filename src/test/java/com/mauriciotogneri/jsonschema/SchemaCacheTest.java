@@ -0,0 +1,74 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+
+public class SchemaCacheTest
+{
+    public static class Cached
+    {
+        public String name;
+        public int count;
+    }
+
+    public static class Invalidated
+    {
+        public String name;
+    }
+
+    public static class Precompiled
+    {
+        public String value;
+    }
+
+    @Test
+    public void countsOneMissThenHits()
+    {
+        long hits = SchemaCache.hits();
+        long misses = SchemaCache.misses();
+
+        SchemaCache.schema(Cached.class);
+        SchemaCache.schema(Cached.class);
+        SchemaCache.serialized(Cached.class);
+
+        assertEquals(misses + 1, SchemaCache.misses());
+        assertEquals(hits + 2, SchemaCache.hits());
+    }
+
+    @Test
+    public void countsRegenerationAfterInvalidateAsMiss()
+    {
+        SchemaCache.schema(Invalidated.class);
+
+        long hits = SchemaCache.hits();
+        long misses = SchemaCache.misses();
+
+        SchemaCache.invalidate(Invalidated.class);
+        SchemaCache.schema(Invalidated.class);
+        SchemaCache.schema(Invalidated.class);
+
+        assertEquals(misses + 1, SchemaCache.misses());
+        assertEquals(hits + 1, SchemaCache.hits());
+    }
+
+    @Test
+    public void returnsCopiesOfGeneratedSchema()
+    {
+        assertNotSame(SchemaCache.schema(Cached.class), SchemaCache.schema(Cached.class));
+        assertEquals(new JsonSchema(Cached.class).schema(), SchemaCache.schema(Cached.class));
+    }
+
+    @Test
+    public void regeneratesFromReflectionAfterInvalidate()
+    {
+        assertEquals(new JsonParser().parse("{\"type\":\"object\",\"properties\":{\"value\":{\"type\":\"integer\"}}}"), SchemaCache.schema(Precompiled.class));
+
+        SchemaCache.invalidate(Precompiled.class);
+
+        assertEquals(new JsonSchema(Precompiled.class).schema(), SchemaCache.schema(Precompiled.class));
+    }
+}
@@ -0,0 +1,133 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.mauriciotogneri.jsonschema.annotations.GenerateSchema;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SchemaExporterTest
+{
+    private static final String ORDER = "package exported; @com.mauriciotogneri.jsonschema.annotations.GenerateSchema public class Order { public Customer customer; }";
+    private static final String CUSTOMER = "package exported; public class Customer { public String name; }";
+    private static final String CHANGED_CUSTOMER = "package exported; public class Customer { public String name; public int age; }";
+    private static final String PRODUCT = "package exported; @com.mauriciotogneri.jsonschema.annotations.GenerateSchema public class Product { public String title; }";
+
+    @Test
+    public void scansAnnotatedClasses() throws Exception
+    {
+        ClassLoader classLoader = compile(ORDER, CUSTOMER, PRODUCT);
+        SchemaExporter exporter = new SchemaExporter(Files.createTempDirectory("jsonschema-export"), classLoader);
+
+        assertEquals(Arrays.asList("exported.Order", "exported.Product"), names(exporter.scan("exported")));
+    }
+
+    @Test
+    public void regeneratesOnlyChangedTypes() throws Exception
+    {
+        Path output = Files.createTempDirectory("jsonschema-export");
+
+        ExportReport first = new SchemaExporter(output, compile(ORDER, CUSTOMER, PRODUCT)).export("exported");
+
+        assertTrue(first.toString(), first.isSuccess());
+        assertEquals(Arrays.asList("exported.Order", "exported.Product"), sorted(first.generated()));
+        assertTrue(Files.exists(output.resolve(PrecompiledSchemas.file("exported.Order"))));
+
+        ExportReport unchanged = new SchemaExporter(output, compile(ORDER, CUSTOMER, PRODUCT)).export("exported");
+
+        assertEquals(Collections.<String>emptyList(), unchanged.generated());
+        assertEquals(Arrays.asList("exported.Order", "exported.Product"), sorted(unchanged.skipped()));
+
+        ClassLoader changed = compile(ORDER, CHANGED_CUSTOMER, PRODUCT);
+        ExportReport dependency = new SchemaExporter(output, changed).export("exported");
+
+        assertEquals(Collections.singletonList("exported.Order"), dependency.generated());
+        assertEquals(Collections.singletonList("exported.Product"), dependency.skipped());
+
+        String schema = new String(Files.readAllBytes(output.resolve(PrecompiledSchemas.file("exported.Order"))), StandardCharsets.UTF_8);
+        assertEquals(new JsonSchema(changed.loadClass("exported.Order")).schema().toString(), schema);
+    }
+
+    @Test
+    public void removesSchemasOfDeletedTypes() throws Exception
+    {
+        Path output = Files.createTempDirectory("jsonschema-export");
+
+        new SchemaExporter(output, compile(ORDER, CUSTOMER, PRODUCT)).export("exported");
+        ExportReport report = new SchemaExporter(output, compile(ORDER, CUSTOMER)).export("exported");
+
+        assertEquals(Collections.singletonList("exported.Product"), report.removed());
+        assertFalse(Files.exists(output.resolve(PrecompiledSchemas.file("exported.Product"))));
+    }
+
+    @Test
+    public void regeneratesMissingOutput() throws Exception
+    {
+        Path output = Files.createTempDirectory("jsonschema-export");
+
+        new SchemaExporter(output, compile(ORDER, CUSTOMER, PRODUCT)).export("exported");
+        Files.delete(output.resolve(PrecompiledSchemas.file("exported.Product")));
+
+        ExportReport report = new SchemaExporter(output, compile(ORDER, CUSTOMER, PRODUCT)).export("exported");
+
+        assertEquals(Collections.singletonList("exported.Product"), report.generated());
+    }
+
+    private static ClassLoader compile(String... sources) throws IOException, URISyntaxException
+    {
+        Path directory = Files.createTempDirectory("jsonschema-sources");
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        List<String> arguments = new ArrayList<>(Arrays.asList("-classpath", new File(GenerateSchema.class.getProtectionDomain().getCodeSource().getLocation().toURI()).toString(), "-d", classes.toString()));
+
+        for (String source : sources)
+        {
+            String name = source.substring(source.indexOf("public class ") + 13, source.indexOf(" {"));
+            Path file = directory.resolve(name + ".java");
+            Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+            arguments.add(file.toString());
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertEquals(0, compiler.run(null, null, null, arguments.toArray(new String[arguments.size()])));
+
+        return new URLClassLoader(new URL[] {classes.toUri().toURL()}, SchemaExporterTest.class.getClassLoader());
+    }
+
+    private static List<String> names(List<Class<?>> classes)
+    {
+        List<String> names = new ArrayList<>();
+
+        for (Class<?> clazz : classes)
+        {
+            names.add(clazz.getName());
+        }
+
+        return sorted(names);
+    }
+
+    private static List<String> sorted(List<String> names)
+    {
+        List<String> result = new ArrayList<>(names);
+        Collections.sort(result);
+
+        return result;
+    }
+}
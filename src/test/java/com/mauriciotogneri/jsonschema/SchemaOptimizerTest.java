@@ -0,0 +1,148 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.mauriciotogneri.jsonschema.annotations.Description;
+import com.mauriciotogneri.jsonschema.annotations.Optional;
+import com.mauriciotogneri.jsonschema.annotations.Title;
+import com.mauriciotogneri.jsonschema.validator.CompiledSchema;
+
+import org.junit.Test;
+
+import java.util.Map.Entry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SchemaOptimizerTest
+{
+    public enum Color
+    {
+        RED, GREEN, BLUE, CYAN, MAGENTA, YELLOW, BLACK, WHITE
+    }
+
+    public static class Palette
+    {
+        @Description("primary color")
+        public Color primary;
+
+        @Description("secondary color")
+        public Color secondary;
+
+        public Color[] accents;
+
+        public Color[] shades;
+
+        @Title("Palette title")
+        public String title;
+
+        @Optional
+        public Palette parent;
+    }
+
+    private static final String[] INSTANCES = {
+            "{\"primary\":\"RED\",\"secondary\":\"BLUE\",\"accents\":[\"RED\"],\"shades\":[],\"title\":\"x\"}",
+            "{\"primary\":\"PINK\",\"secondary\":\"BLUE\",\"accents\":[],\"shades\":[],\"title\":\"x\"}",
+            "{\"primary\":\"RED\",\"secondary\":\"BLUE\",\"accents\":[\"RED\",\"PINK\"],\"shades\":[],\"title\":\"x\"}",
+            "{\"primary\":\"RED\",\"accents\":[],\"shades\":[],\"title\":\"x\"}",
+            "{\"primary\":\"RED\",\"secondary\":\"BLUE\",\"accents\":[],\"shades\":[],\"title\":\"x\",\"parent\":{\"primary\":\"RED\",\"secondary\":\"GREEN\",\"accents\":[],\"shades\":[\"WHITE\"],\"title\":\"y\"}}",
+            "{\"primary\":\"RED\",\"secondary\":\"BLUE\",\"accents\":[],\"shades\":[],\"title\":\"x\",\"parent\":{\"primary\":\"RED\",\"secondary\":\"GREEN\",\"accents\":[],\"shades\":[\"GREY\"],\"title\":\"y\"}}"
+    };
+
+    @Test
+    public void preservesValidity() throws Exception
+    {
+        JsonObject original = new JsonSchema(Palette.class).schema();
+
+        assertSameValidity(original, new SchemaOptimizer().optimize(original));
+        assertSameValidity(original, SchemaOptimizer.runtime().optimize(original));
+        assertSameValidity(original, new SchemaOptimizer().optimize(new SchemaOptimizer().optimize(original)));
+    }
+
+    @Test
+    public void sharesRepeatedSubschemas()
+    {
+        JsonObject original = new JsonSchema(Palette.class).schema();
+        JsonObject optimized = new SchemaOptimizer().optimize(original);
+
+        assertTrue(optimized.toString().length() < original.toString().length());
+        assertTrue(optimized.toString(), optimized.toString().contains("#/definitions/" + SchemaOptimizer.SHARED_PREFIX));
+    }
+
+    @Test
+    public void stripsOnlyDocumentationKeywords()
+    {
+        JsonObject original = new JsonSchema(Palette.class).schema();
+        JsonObject runtime = SchemaOptimizer.runtime().optimize(original);
+
+        assertTrue(original.toString().contains("primary color"));
+        assertFalse(runtime.toString().contains("primary color"));
+        assertFalse(runtime.toString().contains("Palette title"));
+        assertFalse(containsKeyword(runtime, "description"));
+        assertTrue(runtime.toString().contains("\"title\":{"));
+    }
+
+    @Test
+    public void leavesTheInputUntouched()
+    {
+        JsonObject original = new JsonSchema(Palette.class).schema();
+        JsonObject copy = original.deepCopy();
+
+        SchemaOptimizer.runtime().optimize(original);
+
+        assertEquals(copy, original);
+    }
+
+    @Test
+    public void producesStableOutput()
+    {
+        JsonObject original = new JsonSchema(Palette.class).schema();
+
+        assertEquals(new SchemaOptimizer().optimize(original).toString(), new SchemaOptimizer().optimize(original.deepCopy()).toString());
+    }
+
+    private static void assertSameValidity(JsonObject expected, JsonObject actual) throws Exception
+    {
+        com.github.fge.jsonschema.main.JsonSchema reference = JsonSchemaFactory.byDefault().getJsonSchema(JsonLoader.fromString(expected.toString()));
+        com.github.fge.jsonschema.main.JsonSchema optimized = JsonSchemaFactory.byDefault().getJsonSchema(JsonLoader.fromString(actual.toString()));
+        CompiledSchema compiled = CompiledSchema.compile(actual);
+
+        for (String instance : INSTANCES)
+        {
+            boolean valid = reference.validate(JsonLoader.fromString(instance)).isSuccess();
+
+            assertEquals(instance, valid, optimized.validate(JsonLoader.fromString(instance)).isSuccess());
+            assertEquals(instance, valid, compiled.isValid(new JsonParser().parse(instance)));
+        }
+    }
+
+    private static boolean containsKeyword(JsonElement element, String keyword)
+    {
+        if (element.isJsonObject())
+        {
+            for (Entry<String, JsonElement> entry : element.getAsJsonObject().entrySet())
+            {
+                if ((entry.getKey().equals(keyword) && entry.getValue().isJsonPrimitive()) || containsKeyword(entry.getValue(), keyword))
+                {
+                    return true;
+                }
+            }
+        }
+        else if (element.isJsonArray())
+        {
+            for (JsonElement item : element.getAsJsonArray())
+            {
+                if (containsKeyword(item, keyword))
+                {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+}
@@ -0,0 +1,135 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SchemaRegistryTest
+{
+    public static class Shared
+    {
+        public String name;
+    }
+
+    @Test
+    public void sharesSchemasWithEqualContent() throws Exception
+    {
+        SchemaRegistry registry = new SchemaRegistry(4);
+        JsonObject first = new JsonParser().parse("{\"type\":\"object\"}").getAsJsonObject();
+        JsonObject second = new JsonParser().parse("{\"type\":\"object\"}").getAsJsonObject();
+        JsonObject other = new JsonParser().parse("{\"type\":\"array\"}").getAsJsonObject();
+
+        assertSame(registry.schema(first), registry.schema(second));
+        assertNotSame(registry.schema(first), registry.schema(other));
+        assertEquals(2, registry.cache().size());
+    }
+
+    @Test
+    public void sharesSchemasOfTheSameClass() throws Exception
+    {
+        SchemaRegistry registry = new SchemaRegistry(4);
+
+        assertSame(registry.schema(Shared.class), registry.schema(Shared.class));
+        assertEquals(1, registry.cache().misses());
+        assertEquals(1, registry.cache().hits());
+    }
+
+    @Test
+    public void boundsTheNumberOfSchemas() throws Exception
+    {
+        SchemaRegistry registry = new SchemaRegistry(2);
+
+        for (int i = 0; i < 5; i++)
+        {
+            registry.schema(new JsonParser().parse("{\"maxLength\":" + i + "}").getAsJsonObject());
+        }
+
+        assertEquals(2, registry.cache().size());
+        assertEquals(3, registry.cache().evictions());
+    }
+
+    @Test
+    public void keysClassesByIdentity() throws Exception
+    {
+        SchemaRegistry registry = new SchemaRegistry(4);
+        Class<?> text = compile("package twins; public class Twin { public String value; }", null).loadClass("twins.Twin");
+        Class<?> number = compile("package twins; public class Twin { public int value; }", null).loadClass("twins.Twin");
+        JsonNode document = JsonLoader.fromString("{\"value\":1}");
+
+        assertFalse(registry.schema(text).validate(document).isSuccess());
+        assertTrue(registry.schema(number).validate(document).isSuccess());
+        assertEquals(2, registry.cache().size());
+    }
+
+    @Test
+    public void prefersPrecompiledSchemas() throws Exception
+    {
+        String precompiled = "{\"type\":\"object\",\"properties\":{\"value\":{\"type\":\"integer\"}}}";
+        Class<?> clazz = compile("package tagged; public class Tagged { public String value; }", precompiled).loadClass("tagged.Tagged");
+
+        JsonSchema schema = new SchemaRegistry(4).schema(clazz);
+
+        assertTrue(schema.validate(JsonLoader.fromString("{\"value\":1}")).isSuccess());
+        assertFalse(schema.validate(JsonLoader.fromString("{\"value\":\"x\"}")).isSuccess());
+    }
+
+    @Test
+    public void keysTreesByContent() throws Exception
+    {
+        SchemaRegistry registry = new SchemaRegistry(4);
+        JsonNode first = JsonLoader.fromString("{\"type\":\"object\",\"required\":[\"a\"]}");
+        JsonNode reordered = JsonLoader.fromString("{\"required\":[\"a\"],\"type\":\"object\"}");
+        JsonObject gson = new JsonParser().parse("{\"type\":\"object\",\"required\":[\"a\"]}").getAsJsonObject();
+
+        assertSame(registry.schema(first), registry.schema(reordered));
+        assertSame(registry.schema(first), registry.schema(gson));
+
+        ((ObjectNode) first).remove("required");
+
+        assertFalse(registry.schema(reordered).validate(JsonLoader.fromString("{}")).isSuccess());
+    }
+
+    private static ClassLoader compile(String source, String schema) throws IOException, URISyntaxException
+    {
+        Path directory = Files.createTempDirectory("jsonschema-registry");
+        Path classes = Files.createDirectories(directory.resolve("classes"));
+        String simpleName = source.substring(source.indexOf("public class ") + 13, source.indexOf(" {"));
+        String className = source.substring(8, source.indexOf(';')) + "." + simpleName;
+        Path file = directory.resolve(simpleName + ".java");
+        Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        assertEquals(0, compiler.run(null, null, null, "-d", classes.toString(), file.toString()));
+
+        if (schema != null)
+        {
+            Path resource = classes.resolve(PrecompiledSchemas.resource(className));
+            Files.createDirectories(resource.getParent());
+            Files.write(resource, schema.getBytes(StandardCharsets.UTF_8));
+        }
+
+        return new URLClassLoader(new URL[] {classes.toUri().toURL()}, SchemaRegistryTest.class.getClassLoader());
+    }
+}
@@ -0,0 +1,135 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jackson.JsonLoader;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class SchemaValidatorTest
+{
+    public static class Item
+    {
+        public int count;
+        public double price;
+    }
+
+    @Test
+    public void convertsGsonTreesLikeTheParser() throws Exception
+    {
+        String[] documents = {
+                "{\"a\":1,\"b\":-0,\"c\":1.50,\"d\":1e3,\"e\":9223372036854775808,\"f\":[true,null,\"x\"],\"g\":{}}",
+                "{\"a\":2147483648,\"b\":-2147483649,\"c\":0.1}"
+        };
+
+        for (String document : documents)
+        {
+            JsonObject object = new JsonParser().parse(document).getAsJsonObject();
+
+            assertEquals(JsonLoader.fromString(document), JsonTrees.jackson(object));
+        }
+    }
+
+    @Test
+    public void validatesGsonObjectsWithoutText() throws Exception
+    {
+        JsonObject schema = new JsonParser().parse("{\"properties\":{\"a\":{\"type\":\"integer\"}}}").getAsJsonObject();
+        SchemaValidator validator = new SchemaValidator(schema, new SchemaRegistry(4));
+
+        JsonObject integral = new JsonParser().parse("{\"a\":5}").getAsJsonObject();
+        JsonObject decimal = new JsonParser().parse("{\"a\":5.5}").getAsJsonObject();
+
+        assertTrue(validator.validate(integral).isSuccess());
+        assertFalse(validator.validate(decimal).isSuccess());
+        assertTrue(validator.isValid(integral));
+        assertFalse(validator.isValid(decimal));
+    }
+
+    @Test
+    public void compilesClassSchemas() throws Exception
+    {
+        SchemaValidator validator = new SchemaValidator(Item.class, new SchemaRegistry(4));
+        JsonObject valid = new JsonParser().parse("{\"count\":1,\"price\":2.5}").getAsJsonObject();
+        JsonObject invalid = new JsonParser().parse("{\"count\":1.5,\"price\":2.5}").getAsJsonObject();
+
+        assertEquals(validator.validate(valid).isSuccess(), validator.compiled().isValid(valid));
+        assertEquals(validator.validate(invalid).isSuccess(), validator.compiled().isValid(invalid));
+        assertFalse(validator.isValid(invalid));
+    }
+
+    @Test
+    public void validatesBatchesFromInsideTheirOwnExecutor() throws Exception
+    {
+        final SchemaValidator validator = new SchemaValidator(Item.class, new SchemaRegistry(4));
+        final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try
+        {
+            Future<BatchReport> report = executor.submit(new Callable<BatchReport>()
+            {
+                @Override
+                public BatchReport call()
+                {
+                    return validator.validateAll(items(100), executor);
+                }
+            });
+
+            assertEquals(100, report.get(30, TimeUnit.SECONDS).valid());
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void validatesIteratorsInOrder() throws Exception
+    {
+        SchemaValidator validator = new SchemaValidator(Item.class, new SchemaRegistry(4));
+        List<JsonNode> documents = items(5000);
+        documents.set(4321, JsonLoader.fromString("{\"count\":1.5,\"price\":2.5}"));
+
+        BatchReport report = validator.validateAll(documents.iterator(), new Executor()
+        {
+            @Override
+            public void execute(Runnable command)
+            {
+            }
+        });
+
+        assertEquals(5000, report.size());
+        assertEquals(1, report.invalid());
+        assertFalse(report.report(4321).isSuccess());
+    }
+
+    private static List<JsonNode> items(int count)
+    {
+        List<JsonNode> documents = new ArrayList<>();
+
+        for (int i = 0; i < count; i++)
+        {
+            ObjectNode document = JsonNodeFactory.instance.objectNode();
+            document.put("count", i);
+            document.put("price", i / 2.0);
+            documents.add(document);
+        }
+
+        return documents;
+    }
+}
@@ -0,0 +1,98 @@
+package com.mauriciotogneri.jsonschema;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SerializedSchemaTest
+{
+    public static class Served
+    {
+        public String name;
+        public int size;
+    }
+
+    public static class Redefined
+    {
+        public String name;
+    }
+
+    @Test
+    public void encodesTheGeneratedSchema() throws Exception
+    {
+        SerializedSchema serialized = SchemaCache.serialized(Served.class);
+        byte[] expected = new JsonSchema(Served.class).schema().toString().getBytes(StandardCharsets.UTF_8);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        serialized.writeTo(output);
+
+        assertArrayEquals(expected, output.toByteArray());
+        assertEquals(expected.length, serialized.length());
+        assertEquals(hex(MessageDigest.getInstance("SHA-256").digest(expected)), serialized.hash());
+        assertEquals("\"" + serialized.hash() + "\"", serialized.etag());
+    }
+
+    @Test
+    public void sharesOneEncodingPerClass()
+    {
+        assertSame(SchemaCache.serialized(Served.class), SchemaCache.serialized(Served.class));
+    }
+
+    @Test
+    public void exposesIndependentReadOnlyBuffers()
+    {
+        SerializedSchema serialized = SchemaCache.serialized(Served.class);
+        ByteBuffer first = serialized.buffer();
+        first.get(new byte[10]);
+
+        ByteBuffer second = serialized.buffer();
+
+        assertTrue(second.isReadOnly());
+        assertEquals(0, second.position());
+        assertEquals(serialized.length(), second.remaining());
+
+        try
+        {
+            second.put(0, (byte) 0);
+            fail();
+        }
+        catch (ReadOnlyBufferException e)
+        {
+            assertEquals(serialized.length(), serialized.buffer().remaining());
+        }
+    }
+
+    @Test
+    public void reencodesAfterInvalidation()
+    {
+        SerializedSchema before = SchemaCache.serialized(Redefined.class);
+        SchemaCache.invalidate(Redefined.class);
+        SerializedSchema after = SchemaCache.serialized(Redefined.class);
+
+        assertNotSame(before, after);
+        assertEquals(before.hash(), after.hash());
+    }
+
+    private static String hex(byte[] bytes)
+    {
+        StringBuilder builder = new StringBuilder();
+
+        for (byte b : bytes)
+        {
+            builder.append(String.format("%02x", b));
+        }
+
+        return builder.toString();
+    }
+}
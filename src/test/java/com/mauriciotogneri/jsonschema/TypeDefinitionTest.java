@@ -0,0 +1,98 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.google.gson.JsonObject;
+import com.mauriciotogneri.jsonschema.annotations.OneOf;
+
+import org.junit.Test;
+
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class TypeDefinitionTest
+{
+    @Deprecated
+    public static class Model
+    {
+        public String name;
+
+        @OneOf({String.class, Integer.class})
+        public Object value;
+    }
+
+    public static class Base
+    {
+        public String zone;
+        public String label;
+    }
+
+    public static class Derived extends Base
+    {
+        public Base parent;
+        public String label;
+        public Model model;
+    }
+
+    @Test
+    public void internsDefinitions()
+    {
+        assertSame(TypeDefinition.of(Model.class), TypeDefinition.of(Model.class));
+    }
+
+    @Test
+    public void callersCannotCorruptCachedMetadata()
+    {
+        JsonObject expected = new JsonSchema(Model.class).schema();
+        TypeDefinition type = TypeDefinition.of(Model.class);
+
+        FieldDefinition[] fields = type.fields();
+        fields[0] = null;
+
+        Annotation[] annotations = type.annotations();
+        annotations[0] = null;
+
+        for (FieldDefinition field : type.fields())
+        {
+            TypeDefinition[] oneOf = field.annotations().constraints().oneOf();
+
+            if (oneOf != null)
+            {
+                oneOf[0] = TypeDefinition.of(Boolean.class);
+            }
+        }
+
+        assertEquals(2, type.fields().length);
+        assertEquals(1, type.annotations().length);
+        assertEquals(expected, new JsonSchema(Model.class).schema());
+    }
+
+    @Test
+    public void ordersFieldsByNameThenDeclaringClass()
+    {
+        List<String> names = new ArrayList<>();
+
+        for (FieldDefinition field : TypeDefinition.of(Derived.class).fields())
+        {
+            names.add(field.field().getDeclaringClass().getSimpleName() + "." + field.name());
+        }
+
+        assertEquals(Arrays.asList("Base.label", "Derived.label", "Derived.model", "Derived.parent", "Base.zone"), names);
+    }
+
+    @Test
+    public void walksDefinitionsInFieldOrder()
+    {
+        List<String> names = new ArrayList<>();
+
+        for (TypeDefinition definition : new Definitions(TypeDefinition.of(Derived.class)))
+        {
+            names.add(definition.type().getSimpleName());
+        }
+
+        assertEquals(Arrays.asList("Derived", "Model", "Base"), names);
+    }
+}
@@ -0,0 +1,101 @@
+package com.mauriciotogneri.jsonschema;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.core.report.ProcessingMessage;
+import com.github.fge.jsonschema.core.report.ProcessingReport;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+public class ValidationCacheTest
+{
+    private static final String SCHEMA = "{\"properties\":{\"a\":{\"type\":\"integer\"},\"b\":{\"type\":\"string\"}}}";
+
+    @Test
+    public void servesRepeatedDocumentsFromTheCache() throws Exception
+    {
+        ValidationCache cache = new ValidationCache(16);
+        SchemaValidator validator = validator().cached(cache);
+
+        ProcessingReport first = validator.validate(JsonLoader.fromString("{\"a\":\"x\",\"b\":1}"));
+        ProcessingReport second = validator.validate(JsonLoader.fromString("{\"b\":1,\"a\":\"x\"}"));
+
+        assertFalse(second.isSuccess());
+        assertEquals(first.toString(), second.toString());
+        assertEquals(1, cache.cache().misses());
+        assertEquals(1, cache.cache().hits());
+
+        validator.validate("{\"a\":1}");
+        validator.validate("{\"a\":1}");
+
+        assertEquals(2, cache.cache().misses());
+        assertEquals(2, cache.cache().hits());
+    }
+
+    @Test
+    public void returnsIndependentReports() throws Exception
+    {
+        SchemaValidator validator = validator().cached(new ValidationCache(16));
+
+        ProcessingReport first = validator.validate("{\"a\":1}");
+        first.error(new ProcessingMessage().setMessage("caller error"));
+
+        ProcessingReport second = validator.validate("{\"a\":1}");
+
+        assertNotSame(first, second);
+        assertFalse(first.isSuccess());
+        assertTrue(second.isSuccess());
+    }
+
+    @Test
+    public void doesNotRetainCallerOwnedNodes() throws Exception
+    {
+        SchemaValidator validator = validator().cached(new ValidationCache(16));
+        ObjectNode document = (ObjectNode) JsonLoader.fromString("{\"a\":1}");
+
+        assertTrue(validator.validate(document).isSuccess());
+
+        document.put("a", "x");
+
+        assertFalse(validator.validate(document).isSuccess());
+        assertTrue(validator.validate(JsonLoader.fromString("{\"a\":1}")).isSuccess());
+    }
+
+    @Test
+    public void distinguishesIntegersFromDecimals() throws Exception
+    {
+        SchemaValidator validator = validator().cached(new ValidationCache(16));
+
+        assertTrue(validator.validate(JsonLoader.fromString("{\"a\":1}")).isSuccess());
+        assertFalse(validator.validate(JsonLoader.fromString("{\"a\":1.0}")).isSuccess());
+    }
+
+    @Test
+    public void boundsCachedReportsByWeight() throws Exception
+    {
+        ValidationCache cache = ValidationCache.withMaximumBytes(4096);
+        SchemaValidator validator = validator().cached(cache);
+
+        for (int i = 0; i < 100; i++)
+        {
+            validator.validate("{\"a\":\"" + i + "\",\"b\":" + i + "}");
+        }
+
+        assertTrue(cache.cache().evictions() > 0);
+        assertTrue(cache.cache().weight() <= 4096);
+    }
+
+    private static SchemaValidator validator() throws Exception
+    {
+        JsonObject schema = new JsonParser().parse(SCHEMA).getAsJsonObject();
+
+        return new SchemaValidator(schema, new SchemaRegistry(4));
+    }
+}
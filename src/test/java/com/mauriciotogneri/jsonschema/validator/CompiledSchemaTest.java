@@ -0,0 +1,115 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.fge.jackson.JsonLoader;
+import com.github.fge.jsonschema.main.JsonSchema;
+import com.github.fge.jsonschema.main.JsonSchemaFactory;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CompiledSchemaTest
+{
+    private static final String FIXTURES = "/fixtures/keywords.json";
+
+    @Test
+    public void agreesWithReferenceValidator() throws Exception
+    {
+        JsonNode jacksonCases = JsonLoader.fromResource(FIXTURES);
+        JsonArray gsonCases = new JsonParser().parse(new InputStreamReader(getClass().getResourceAsStream(FIXTURES), StandardCharsets.UTF_8)).getAsJsonArray();
+        JsonSchemaFactory factory = JsonSchemaFactory.byDefault();
+
+        for (int i = 0; i < jacksonCases.size(); i++)
+        {
+            JsonNode jacksonCase = jacksonCases.get(i);
+            JsonObject gsonCase = gsonCases.get(i).getAsJsonObject();
+            String description = jacksonCase.get("description").asText();
+
+            JsonSchema reference = factory.getJsonSchema(jacksonCase.get("schema"));
+            CompiledSchema fromJackson = CompiledSchema.compile(jacksonCase.get("schema"));
+            CompiledSchema fromGson = CompiledSchema.compile(gsonCase.get("schema"));
+            JsonNode jacksonInstances = jacksonCase.get("instances");
+            JsonArray gsonInstances = gsonCase.getAsJsonArray("instances");
+
+            for (int j = 0; j < jacksonInstances.size(); j++)
+            {
+                JsonNode jacksonInstance = jacksonInstances.get(j);
+                JsonElement gsonInstance = gsonInstances.get(j);
+                boolean expected = reference.validate(jacksonInstance).isSuccess();
+                String message = description + ": " + gsonInstance;
+
+                assertEquals(message, expected, fromJackson.isValid(jacksonInstance));
+                assertEquals(message, expected, fromJackson.validate(jacksonInstance).isSuccess());
+                assertEquals(message, expected, fromGson.isValid(gsonInstance));
+                assertEquals(message, expected, fromGson.validate(gsonInstance).isSuccess());
+            }
+        }
+    }
+
+    @Test
+    public void comparesIntegersBeyondDoublePrecision()
+    {
+        CompiledSchema schema = CompiledSchema.compile(new JsonParser().parse("{\"maximum\":9007199254740993}"));
+
+        assertTrue(schema.isValid(new JsonParser().parse("9007199254740993")));
+        assertFalse(schema.isValid(new JsonParser().parse("9007199254740994")));
+        assertFalse(schema.isValid(new JsonParser().parse("9223372036854775807")));
+
+        CompiledSchema minimum = CompiledSchema.compile(new JsonParser().parse("{\"minimum\":9007199254740993}"));
+
+        assertFalse(minimum.isValid(new JsonParser().parse("9007199254740992")));
+        assertTrue(minimum.isValid(new JsonParser().parse("9007199254740993")));
+    }
+
+    @Test
+    public void reportsExactLimitInMessage()
+    {
+        CompiledSchema schema = CompiledSchema.compile(new JsonParser().parse("{\"minimum\":12345678901234567890}"));
+        ValidationReport report = schema.validate(new JsonParser().parse("12345678901234567889"));
+
+        assertFalse(report.isSuccess());
+        assertTrue(report.errors().get(0).toString(), report.errors().get(0).toString().contains("12345678901234567890"));
+    }
+
+    @Test
+    public void truncatesOnlyWhenErrorsAreDropped()
+    {
+        CompiledSchema schema = CompiledSchema.compile(new JsonParser().parse("{\"properties\":{\"a\":{\"minimum\":1},\"b\":{\"maxLength\":1}}}"));
+        JsonElement invalid = new JsonParser().parse("{\"a\":0,\"b\":\"long\"}");
+
+        ValidationReport all = schema.validate(invalid, 2);
+
+        assertFalse(all.isSuccess());
+        assertEquals(2, all.errors().size());
+        assertFalse(all.isTruncated());
+
+        ValidationReport capped = schema.validate(invalid, 1);
+
+        assertFalse(capped.isSuccess());
+        assertEquals(1, capped.errors().size());
+        assertTrue(capped.isTruncated());
+
+        ValidationReport valid = schema.validate(new JsonParser().parse("{\"a\":1,\"b\":\"s\"}"), 1);
+
+        assertTrue(valid.isSuccess());
+        assertFalse(valid.isTruncated());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsErrorCapsBelowOne()
+    {
+        CompiledSchema schema = CompiledSchema.compile(new JsonParser().parse("{\"minimum\":1}"));
+
+        schema.validate(new JsonParser().parse("0"), 0);
+    }
+}
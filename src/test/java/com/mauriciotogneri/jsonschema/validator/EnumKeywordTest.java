@@ -0,0 +1,76 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class EnumKeywordTest
+{
+    @Test
+    public void doesNotFormatMutedMisses()
+    {
+        Counter counter = new Counter();
+        EnumKeyword keyword = new EnumKeyword(Arrays.<Object>asList("a", counter));
+
+        assertFalse(keyword.validate(new JsonPrimitive("b"), GsonAdapter.INSTANCE, ValidationContext.failFast()));
+        assertEquals(0, counter.count);
+
+        final List<ValidationError> errors = new ArrayList<>();
+        ValidationContext context = new ValidationContext(new ErrorListener()
+        {
+            @Override
+            public void onError(ValidationError error)
+            {
+                errors.add(error);
+            }
+        });
+
+        assertFalse(keyword.validate(new JsonPrimitive("b"), GsonAdapter.INSTANCE, context));
+        assertEquals(1, counter.count);
+        assertTrue(errors.get(0).message(), errors.get(0).message().contains("counted"));
+    }
+
+    @Test
+    public void checksLargeEnums()
+    {
+        JsonArray values = new JsonArray();
+
+        for (int i = 0; i < 5000; i++)
+        {
+            values.add(new JsonPrimitive("value" + i));
+        }
+
+        JsonObject schema = new JsonObject();
+        schema.add("enum", values);
+        CompiledSchema compiled = CompiledSchema.compile(schema);
+
+        assertTrue(compiled.isValid(new JsonPrimitive("value0")));
+        assertTrue(compiled.isValid(new JsonPrimitive("value4999")));
+        assertFalse(compiled.isValid(new JsonPrimitive("value5000")));
+        assertFalse(compiled.isValid(new JsonParser().parse("0")));
+    }
+
+    private static class Counter
+    {
+        private int count = 0;
+
+        @Override
+        public String toString()
+        {
+            count++;
+
+            return "counted";
+        }
+    }
+}
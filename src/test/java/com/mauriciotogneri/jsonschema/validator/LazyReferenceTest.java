@@ -0,0 +1,252 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LazyReferenceTest
+{
+    private static final int DEFINITIONS = 100;
+
+    @Test
+    public void compilesDefinitionsOnFirstUse()
+    {
+        JsonObject schema = schema();
+        CountingAdapter adapter = new CountingAdapter();
+        CompiledSchema compiled = CompiledSchema.compileLazily(schema, adapter);
+
+        assertEquals(0, adapter.compiled(definitions(schema)));
+
+        assertTrue(compiled.isValid(new JsonParser().parse("{\"p3\":{\"value\":1}}")));
+        assertFalse(compiled.isValid(new JsonParser().parse("{\"p7\":{\"value\":\"x\"}}")));
+
+        assertEquals(2, adapter.compiled(definitions(schema)));
+        assertEquals(1, adapter.count(definitions(schema).get("d3")));
+        assertEquals(1, adapter.count(definitions(schema).get("d7")));
+    }
+
+    @Test
+    public void compilesEachDefinitionOnceUnderContention() throws Exception
+    {
+        JsonObject schema = schema();
+        CountingAdapter adapter = new CountingAdapter();
+        final CompiledSchema compiled = CompiledSchema.compileLazily(schema, adapter);
+        final JsonElement instance = instance();
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        try
+        {
+            List<Future<Boolean>> results = new ArrayList<>();
+
+            for (int i = 0; i < 32; i++)
+            {
+                results.add(executor.submit(new Callable<Boolean>()
+                {
+                    @Override
+                    public Boolean call() throws InterruptedException
+                    {
+                        start.await();
+
+                        return compiled.isValid(instance);
+                    }
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<Boolean> result : results)
+            {
+                assertTrue(result.get(30, TimeUnit.SECONDS));
+            }
+        }
+        finally
+        {
+            executor.shutdownNow();
+        }
+
+        for (Entry<String, JsonElement> definition : definitions(schema).entrySet())
+        {
+            assertEquals(definition.getKey(), 1, adapter.count(definition.getValue()));
+        }
+    }
+
+    @Test
+    public void reportsUnresolvableReferencesWhenReached()
+    {
+        CompiledSchema compiled = CompiledSchema.compileLazily(new JsonParser().parse("{\"properties\":{\"a\":{\"$ref\":\"#/definitions/missing\"}}}"));
+
+        assertTrue(compiled.isValid(new JsonParser().parse("{\"b\":1}")));
+
+        ValidationReport report = compiled.validate(new JsonParser().parse("{\"a\":1}"));
+
+        assertEquals(1, report.errors().size());
+        assertEquals("$ref", report.errors().get(0).keyword());
+    }
+
+    @Test
+    public void agreesWithEagerCompilation()
+    {
+        JsonArray cases = new JsonParser().parse(new InputStreamReader(getClass().getResourceAsStream("/fixtures/keywords.json"), StandardCharsets.UTF_8)).getAsJsonArray();
+
+        for (JsonElement element : cases)
+        {
+            JsonObject testCase = element.getAsJsonObject();
+            CompiledSchema eager = CompiledSchema.compile(testCase.get("schema"));
+            CompiledSchema lazy = CompiledSchema.compileLazily(testCase.get("schema"));
+
+            for (JsonElement instance : testCase.getAsJsonArray("instances"))
+            {
+                assertEquals(testCase.get("description").getAsString() + ": " + instance, eager.validate(instance).errors().size(), lazy.validate(instance).errors().size());
+            }
+        }
+    }
+
+    private static JsonObject schema()
+    {
+        JsonObject definitions = new JsonObject();
+        JsonObject properties = new JsonObject();
+
+        for (int i = 0; i < DEFINITIONS; i++)
+        {
+            definitions.add("d" + i, new JsonParser().parse("{\"type\":\"object\",\"properties\":{\"value\":{\"type\":\"integer\"}}}"));
+            properties.add("p" + i, new JsonParser().parse("{\"$ref\":\"#/definitions/d" + i + "\"}"));
+        }
+
+        JsonObject schema = new JsonObject();
+        schema.add("definitions", definitions);
+        schema.add("properties", properties);
+
+        return schema;
+    }
+
+    private static JsonObject definitions(JsonObject schema)
+    {
+        return schema.getAsJsonObject("definitions");
+    }
+
+    private static JsonElement instance()
+    {
+        JsonObject instance = new JsonObject();
+
+        for (int i = 0; i < DEFINITIONS; i++)
+        {
+            instance.add("p" + i, new JsonParser().parse("{\"value\":" + i + "}"));
+        }
+
+        return instance;
+    }
+
+    private static class CountingAdapter implements NodeAdapter<JsonElement>
+    {
+        private final Map<JsonElement, Integer> compilations = Collections.synchronizedMap(new IdentityHashMap<JsonElement, Integer>());
+
+        private int count(JsonElement schema)
+        {
+            Integer count = compilations.get(schema);
+
+            return (count != null) ? count : 0;
+        }
+
+        private int compiled(JsonObject schemas)
+        {
+            int result = 0;
+
+            for (Entry<String, JsonElement> entry : schemas.entrySet())
+            {
+                if (count(entry.getValue()) > 0)
+                {
+                    result++;
+                }
+            }
+
+            return result;
+        }
+
+        @Override
+        public NodeType type(JsonElement node)
+        {
+            return GsonAdapter.INSTANCE.type(node);
+        }
+
+        @Override
+        public boolean booleanValue(JsonElement node)
+        {
+            return GsonAdapter.INSTANCE.booleanValue(node);
+        }
+
+        @Override
+        public String stringValue(JsonElement node)
+        {
+            return GsonAdapter.INSTANCE.stringValue(node);
+        }
+
+        @Override
+        public double doubleValue(JsonElement node)
+        {
+            return GsonAdapter.INSTANCE.doubleValue(node);
+        }
+
+        @Override
+        public BigDecimal decimalValue(JsonElement node)
+        {
+            return GsonAdapter.INSTANCE.decimalValue(node);
+        }
+
+        @Override
+        public int size(JsonElement node)
+        {
+            return GsonAdapter.INSTANCE.size(node);
+        }
+
+        @Override
+        public JsonElement element(JsonElement array, int index)
+        {
+            return GsonAdapter.INSTANCE.element(array, index);
+        }
+
+        @Override
+        public JsonElement field(JsonElement object, String name)
+        {
+            if ("$ref".equals(name))
+            {
+                synchronized (compilations)
+                {
+                    compilations.put(object, count(object) + 1);
+                }
+            }
+
+            return GsonAdapter.INSTANCE.field(object, name);
+        }
+
+        @Override
+        public Iterator<Entry<String, JsonElement>> fields(JsonElement object)
+        {
+            return GsonAdapter.INSTANCE.fields(object);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import com.mauriciotogneri.jsonschema.annotations.MaxLength;
+import com.mauriciotogneri.jsonschema.annotations.Minimum;
+import com.mauriciotogneri.jsonschema.annotations.MultipleOf;
+import com.mauriciotogneri.jsonschema.annotations.Optional;
+
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ObjectValidatorTest
+{
+    static class Hidden
+    {
+        @Minimum(1)
+        public int count;
+
+        @MaxLength(3)
+        public String code;
+
+        @Optional
+        public Hidden child;
+    }
+
+    public static class Measurement
+    {
+        @MultipleOf(0.1f)
+        public float single;
+
+        @MultipleOf(0.1f)
+        public Float boxed;
+
+        @MultipleOf(0.1f)
+        public double precise;
+
+        @Optional
+        public BigDecimal amount;
+
+        @Optional
+        public Class<?> type;
+    }
+
+    @Test
+    public void readsPublicFieldsOfNonPublicClasses()
+    {
+        Hidden valid = new Hidden();
+        valid.count = 1;
+        valid.code = "abc";
+
+        Hidden invalid = new Hidden();
+        invalid.count = 0;
+        invalid.code = "abcd";
+        invalid.child = valid;
+
+        assertTrue(ObjectValidator.isValid(valid));
+
+        ValidationReport report = ObjectValidator.validate(invalid);
+
+        Set<String> pointers = new HashSet<>();
+
+        for (ValidationError error : report)
+        {
+            pointers.add(error.pointer());
+        }
+
+        assertEquals(new HashSet<>(Arrays.asList("/count", "/code")), pointers);
+    }
+
+    @Test
+    public void capsCollectedErrors()
+    {
+        Hidden invalid = new Hidden();
+        invalid.count = 0;
+        invalid.code = "abcd";
+
+        ValidationReport all = ObjectValidator.validate(invalid, 2);
+
+        assertFalse(all.isSuccess());
+        assertEquals(2, all.errors().size());
+        assertFalse(all.isTruncated());
+
+        ValidationReport capped = ObjectValidator.validate(invalid, 1);
+
+        assertFalse(capped.isSuccess());
+        assertEquals(1, capped.errors().size());
+        assertTrue(capped.isTruncated());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsErrorCapsBelowOne()
+    {
+        ObjectValidator.validate(new Hidden(), 0);
+    }
+
+    @Test
+    public void checksFloatsAtTheirDeclaredPrecision()
+    {
+        Measurement measurement = new Measurement();
+        measurement.single = 0.3f;
+        measurement.boxed = 0.7f;
+        measurement.precise = 0.3;
+
+        assertTrue(ObjectValidator.validate(measurement).toString(), ObjectValidator.isValid(measurement));
+
+        measurement.single = 0.35f;
+
+        ValidationReport report = ObjectValidator.validate(measurement);
+
+        assertEquals(1, report.errors().size());
+        assertEquals("multipleOf", report.errors().get(0).keyword());
+    }
+
+    @Test
+    public void doesNotDescendIntoPlatformClasses()
+    {
+        Measurement measurement = new Measurement();
+        measurement.boxed = 0f;
+        measurement.amount = new BigDecimal("12.5");
+        measurement.type = String.class;
+
+        assertTrue(ObjectValidator.validate(measurement).toString(), ObjectValidator.isValid(measurement));
+    }
+}
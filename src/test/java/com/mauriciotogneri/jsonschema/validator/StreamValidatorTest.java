@@ -0,0 +1,136 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class StreamValidatorTest
+{
+    private static final String SCHEMA = "{\"type\":\"object\",\"required\":[\"id\",\"items\"],\"properties\":{\"id\":{\"type\":\"integer\",\"minimum\":1},\"name\":{\"type\":\"string\",\"maxLength\":3},\"items\":{\"type\":\"array\",\"items\":{\"type\":\"integer\"}}}}";
+
+    @Test
+    public void agreesWithTreeValidation()
+    {
+        JsonArray cases = new JsonParser().parse(new InputStreamReader(getClass().getResourceAsStream("/fixtures/keywords.json"), StandardCharsets.UTF_8)).getAsJsonArray();
+
+        for (JsonElement element : cases)
+        {
+            JsonObject testCase = element.getAsJsonObject();
+            CompiledSchema schema = CompiledSchema.compile(testCase.get("schema"));
+
+            for (JsonElement instance : testCase.getAsJsonArray("instances"))
+            {
+                String message = testCase.get("description").getAsString() + ": " + instance;
+                boolean expected = schema.isValid(instance);
+
+                try
+                {
+                    assertEquals(message, expected, schema.isValid(new StringReader(instance.toString())));
+                    assertEquals(message, schema.validate(instance).errors().size(), schema.validate(new StringReader(instance.toString())).errors().size());
+                }
+                catch (IOException e)
+                {
+                    throw new AssertionError(message, e);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void reportsPointersOfStreamedFields() throws IOException
+    {
+        CompiledSchema schema = CompiledSchema.compile(new JsonParser().parse(SCHEMA));
+        ValidationReport report = schema.validate(new StringReader("{\"id\":0,\"name\":\"long\",\"items\":[1,\"two\",3]}"));
+
+        List<String> pointers = new ArrayList<>();
+
+        for (ValidationError error : report)
+        {
+            pointers.add(error.pointer());
+        }
+
+        assertFalse(report.isSuccess());
+        assertTrue(pointers.toString(), pointers.contains("/id"));
+        assertTrue(pointers.toString(), pointers.contains("/name"));
+        assertTrue(pointers.toString(), pointers.contains("/items/1"));
+    }
+
+    @Test
+    public void reportsMissingRequiredProperties() throws IOException
+    {
+        CompiledSchema schema = CompiledSchema.compile(new JsonParser().parse(SCHEMA));
+        ValidationReport report = schema.validate(new StringReader("{\"id\":1}"));
+
+        assertEquals(1, report.errors().size());
+        assertEquals("required", report.errors().get(0).keyword());
+    }
+
+    @Test
+    public void stopsAtFirstErrorWhenFailingFast() throws IOException
+    {
+        CompiledSchema schema = CompiledSchema.compile(new JsonParser().parse(SCHEMA));
+
+        assertFalse(schema.isValid(new StringReader("{\"id\":0,\"items\":[1,2,3], this is not json")));
+    }
+
+    @Test
+    public void capsCollectedErrors() throws IOException
+    {
+        CompiledSchema schema = CompiledSchema.compile(new JsonParser().parse(SCHEMA));
+        ValidationReport report = schema.validate(new StringReader("{\"id\":0,\"name\":\"long\",\"items\":[\"a\",\"b\",\"c\"]}"), 2);
+
+        assertFalse(report.isSuccess());
+        assertEquals(2, report.errors().size());
+        assertTrue(report.isTruncated());
+    }
+
+    @Test
+    public void doesNotTruncateWhenCapEqualsErrorCount() throws IOException
+    {
+        CompiledSchema schema = CompiledSchema.compile(new JsonParser().parse(SCHEMA));
+        ValidationReport report = schema.validate(new StringReader("{\"id\":0,\"name\":\"long\",\"items\":[]}"), 2);
+
+        assertFalse(report.isSuccess());
+        assertEquals(2, report.errors().size());
+        assertFalse(report.isTruncated());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void rejectsErrorCapsBelowOne() throws IOException
+    {
+        CompiledSchema schema = CompiledSchema.compile(new JsonParser().parse(SCHEMA));
+
+        schema.validate(new StringReader("{\"id\":0}"), 0);
+    }
+
+    @Test
+    public void readsUtf8InputStreams() throws IOException
+    {
+        CompiledSchema schema = CompiledSchema.compile(new JsonParser().parse(SCHEMA));
+        byte[] document = "{\"id\":1,\"name\":\"éèê\",\"items\":[]}".getBytes(StandardCharsets.UTF_8);
+
+        assertTrue(schema.validate(new ByteArrayInputStream(document)).isSuccess());
+    }
+
+    @Test(expected = IOException.class)
+    public void rejectsTrailingValues() throws IOException
+    {
+        CompiledSchema schema = CompiledSchema.compile(new JsonParser().parse(SCHEMA));
+        schema.isValid(new StringReader("{\"id\":1,\"items\":[]} {}"));
+    }
+}
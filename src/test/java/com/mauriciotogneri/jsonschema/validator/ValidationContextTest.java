@@ -0,0 +1,71 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+public class ValidationContextTest
+{
+    @Test
+    public void formatsOnlyDeliveredErrors()
+    {
+        Counter counter = new Counter();
+        ValidationContext context = ValidationContext.failFast();
+
+        assertFalse(context.fail("enum", "value %s", counter));
+        assertEquals(0, counter.count);
+
+        final List<ValidationError> errors = new ArrayList<>();
+        context = new ValidationContext(new ErrorListener()
+        {
+            @Override
+            public void onError(ValidationError error)
+            {
+                errors.add(error);
+            }
+        }, 1);
+
+        context.push("a");
+        context.fail("enum", "value %s", counter);
+        context.fail("enum", "value %s", counter);
+
+        assertEquals(1, counter.count);
+        assertEquals(1, errors.size());
+        assertEquals("/a: [enum] value counted", errors.get(0).toString());
+    }
+
+    @Test
+    public void keepsConstantMessagesVerbatim()
+    {
+        final List<ValidationError> errors = new ArrayList<>();
+        ValidationContext context = new ValidationContext(new ErrorListener()
+        {
+            @Override
+            public void onError(ValidationError error)
+            {
+                errors.add(error);
+            }
+        });
+
+        context.fail("pattern", "100% literal");
+
+        assertEquals("100% literal", errors.get(0).message());
+    }
+
+    private static class Counter
+    {
+        private int count = 0;
+
+        @Override
+        public String toString()
+        {
+            count++;
+
+            return "counted";
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.mauriciotogneri.jsonschema.validator;
+
+import com.google.gson.JsonParser;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class ValidationStatisticsTest
+{
+    private static final String SCHEMA = "{\"type\":\"object\",\"required\":[\"id\",\"tags\"],\"properties\":{\"id\":{\"type\":\"string\",\"pattern\":\"^[a-z]+$\"},\"tags\":{\"type\":\"array\",\"maxItems\":2,\"items\":{\"type\":\"string\"}}}}";
+    private static final String DOCUMENT = "{\"id\":\"abc\",\"tags\":[\"a\",\"b\",\"c\"]}";
+
+    @Test
+    public void recordsTheSameKeywordsForTreesAndStreams() throws IOException
+    {
+        CompiledSchema schema = CompiledSchema.compile(new JsonParser().parse(SCHEMA));
+        ValidationStatistics tree = new ValidationStatistics();
+        ValidationStatistics stream = new ValidationStatistics();
+
+        schema.instrument(tree).validate(new JsonParser().parse(DOCUMENT));
+        schema.instrument(stream).validate(new StringReader(DOCUMENT));
+
+        assertEquals(tree.getKeywords().keySet(), stream.getKeywords().keySet());
+        assertEquals(tree.getLocations().keySet(), stream.getLocations().keySet());
+    }
+
+    @Test
+    public void countsInvocationsAndFailures()
+    {
+        CompiledSchema schema = CompiledSchema.compile(new JsonParser().parse(SCHEMA));
+        ValidationStatistics statistics = new ValidationStatistics();
+        CompiledSchema instrumented = schema.instrument(statistics);
+
+        instrumented.validate(new JsonParser().parse(DOCUMENT));
+        instrumented.validate(new JsonParser().parse("{\"id\":\"abc\",\"tags\":[]}"));
+
+        KeywordStatistics maxItems = statistics.getKeywords().get("maxItems");
+
+        assertEquals(2, maxItems.getInvocations());
+        assertEquals(1, maxItems.getFailures());
+        assertEquals(1, statistics.getLocations().get("#/properties/tags/maxItems").getFailures());
+
+        statistics.reset();
+
+        assertTrue(statistics.getKeywords().isEmpty());
+    }
+
+    @Test
+    public void registersAsMXBean() throws JMException
+    {
+        ValidationStatistics statistics = new ValidationStatistics();
+        CompiledSchema.compile(new JsonParser().parse(SCHEMA)).instrument(statistics).validate(new JsonParser().parse(DOCUMENT));
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = statistics.register("statistics-test");
+
+        try
+        {
+            assertTrue(server.isRegistered(name));
+            assertEquals(statistics.getKeywords().size(), ((TabularData) server.getAttribute(name, "Keywords")).size());
+
+            server.invoke(name, "reset", new Object[0], new String[0]);
+
+            assertTrue(statistics.getKeywords().isEmpty());
+        }
+        finally
+        {
+            statistics.unregister(name);
+        }
+
+        assertFalse(server.isRegistered(name));
+    }
+}